@@ -1,15 +1,20 @@
 package ru.practicum.shareit.booking;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.GatewayTransportFactory;
+import ru.practicum.shareit.client.RequestCoalescer;
+import static ru.practicum.shareit.constants.Constants.BOOKING_CACHE_REGION;
+import static ru.practicum.shareit.constants.Constants.ITEM_CACHE_REGION;
 
 @Service
 public class BookingClient extends BaseClient {
@@ -17,35 +22,56 @@ public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, GatewayTransportFactory transportFactory,
+                         GatewayResponseCache responseCache, RequestCoalescer requestCoalescer) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                transportFactory.create(serverUrl + API_PREFIX),
+                responseCache,
+                requestCoalescer,
+                BOOKING_CACHE_REGION,
+                BOOKING_CACHE_REGION, ITEM_CACHE_REGION
         );
     }
 
-    public ResponseEntity<Object> createBooking(long userId, CreateBookingRequest request) {
+    public Mono<ResponseEntity<Object>> createBooking(long userId, CreateBookingRequest request) {
         return post("", userId, request);
     }
 
-    public ResponseEntity<Object> approveBooking(long bookingId, long userId, boolean approved) {
+    public Mono<ResponseEntity<Object>> createBookings(long userId, List<CreateBookingRequest> requests) {
+        return post("/batch", userId, requests);
+    }
+
+    public Mono<ResponseEntity<Object>> approveBooking(long bookingId, long userId, boolean approved) {
         Map<String, Object> parameters = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
     }
 
-    public ResponseEntity<Object> getBookingById(long userId, Long bookingId) {
+    public Mono<ResponseEntity<Object>> getBookingById(long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getBookingsByBookerId(long userId, BookingState state) {
-        Map<String, Object> parameters = Map.of("state", state.name());
-        return get("?state={state}", userId, parameters);
+    public Mono<ResponseEntity<Object>> getBookingsByBookerId(long userId, BookingState state, String cursor, int size) {
+        return get(pageQuery(cursor), userId, pageParameters(state, cursor, size));
+    }
+
+    public Mono<ResponseEntity<Object>> getBookingsByItemOwnerId(long userId, BookingState state, String cursor, int size) {
+        return get("/owner" + pageQuery(cursor), userId, pageParameters(state, cursor, size));
+    }
+
+    private static String pageQuery(String cursor) {
+        if (cursor == null) {
+            return "?state={state}&size={size}";
+        }
+        return "?state={state}&size={size}&cursor={cursor}";
     }
 
-    public ResponseEntity<Object> getBookingsByItemOwnerId(long userId, BookingState state) {
-        Map<String, Object> parameters = Map.of("state", state.name());
-        return get("/owner?state={state}", userId, parameters);
+    private static Map<String, Object> pageParameters(BookingState state, String cursor, int size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        parameters.put("size", size);
+        if (cursor != null) {
+            parameters.put("cursor", cursor);
+        }
+        return parameters;
     }
 }
\ No newline at end of file
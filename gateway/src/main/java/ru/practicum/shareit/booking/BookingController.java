@@ -1,16 +1,25 @@
 package ru.practicum.shareit.booking;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import ru.practicum.shareit.exception.UnavailableBookingException;
+import java.util.List;
+import static ru.practicum.shareit.constants.Constants.DEFAULT_PAGE_SIZE;
+import static ru.practicum.shareit.constants.Constants.MAX_BOOKING_BATCH_SIZE;
+import static ru.practicum.shareit.constants.Constants.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @Controller
@@ -24,14 +33,21 @@ public class BookingController {
 
 	@PostMapping
 	@ResponseStatus(HttpStatus.CREATED)
-	public ResponseEntity<Object> createBooking(@RequestHeader(USER_ID_HEADER) long userId,
+	public Mono<ResponseEntity<Object>> createBooking(@RequestHeader(USER_ID_HEADER) long userId,
 												@RequestBody @Valid CreateBookingRequest request) {
 		log.info("Получен запрос POST на создание бронирования вещи {}", request);
 		return bookingClient.createBooking(userId, request);
 	}
 
+	@PostMapping("/batch")
+	public Mono<ResponseEntity<Object>> createBookings(@RequestHeader(USER_ID_HEADER) long userId,
+												 @RequestBody @NotEmpty @Size(max = MAX_BOOKING_BATCH_SIZE) List<@Valid CreateBookingRequest> requests) {
+		log.info("Получен запрос POST на создание {} бронирований", requests.size());
+		return bookingClient.createBookings(userId, requests);
+	}
+
 	@PatchMapping("/{bookingId}")
-	public ResponseEntity<Object> approveBooking(@RequestHeader(USER_ID_HEADER) long userId,
+	public Mono<ResponseEntity<Object>> approveBooking(@RequestHeader(USER_ID_HEADER) long userId,
 												 @NotNull @PathVariable("bookingId") long bookingId,
 												 @NotNull @RequestParam("approved") boolean approved) {
 		log.info("Получен запрос PATCH на подтверждение/отклонение бронирования с id = {}", bookingId);
@@ -39,27 +55,31 @@ public class BookingController {
 	}
 
 	@GetMapping("/{bookingId}")
-	public ResponseEntity<Object> getBookingById(@RequestHeader(USER_ID_HEADER) long userId,
+	public Mono<ResponseEntity<Object>> getBookingById(@RequestHeader(USER_ID_HEADER) long userId,
 												 @PathVariable Long bookingId) {
 		log.info("Поступил запрос GET на получение данных о бронировании с id = {}", bookingId);
 		return bookingClient.getBookingById(userId, bookingId);
 	}
 
 	@GetMapping
-	public ResponseEntity<Object> getBookingsByBookerId(@RequestHeader(USER_ID_HEADER) long userId,
-														@RequestParam(name = "state", defaultValue = "ALL") String stateParam) {
+	public Mono<ResponseEntity<Object>> getBookingsByBookerId(@RequestHeader(USER_ID_HEADER) long userId,
+														@RequestParam(name = "state", defaultValue = "ALL") String stateParam,
+														@RequestParam(name = "cursor", required = false) String cursor,
+														@Positive @Max(MAX_PAGE_SIZE) @RequestParam(name = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
 		BookingState state = BookingState.from(stateParam).orElseThrow(() ->
 				new UnavailableBookingException("Введён некорректный статус бронирования" + stateParam));
 		log.info("Поступил запрос GET на получение данных о всех бронированиях пользователя с id = {}", userId);
-		return bookingClient.getBookingsByBookerId(userId, state);
+		return bookingClient.getBookingsByBookerId(userId, state, cursor, size);
 	}
 
 	@GetMapping("/owner")
-	public ResponseEntity<Object> getBookingsByItemOwnerId(@RequestHeader(USER_ID_HEADER) long userId,
-														   @RequestParam(name = "state", defaultValue = "ALL") String stateParam) {
+	public Mono<ResponseEntity<Object>> getBookingsByItemOwnerId(@RequestHeader(USER_ID_HEADER) long userId,
+														   @RequestParam(name = "state", defaultValue = "ALL") String stateParam,
+														   @RequestParam(name = "cursor", required = false) String cursor,
+														   @Positive @Max(MAX_PAGE_SIZE) @RequestParam(name = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
 		BookingState state = BookingState.from(stateParam).orElseThrow(() ->
 				new UnavailableBookingException("Введён некорректный статус бронирования" + stateParam));
 		log.info("Поступил запрос GET на получение данных о всех бронированиях вещей пользователя с id = {}", userId);
-		return  bookingClient.getBookingsByItemOwnerId(userId, state);
+		return  bookingClient.getBookingsByItemOwnerId(userId, state, cursor, size);
 	}
 }
\ No newline at end of file
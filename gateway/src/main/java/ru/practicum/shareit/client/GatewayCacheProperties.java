@@ -0,0 +1,21 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "shareit-gateway.cache")
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class GatewayCacheProperties {
+
+    boolean enabled;
+    long maximumSize = 10_000;
+    Map<String, Duration> ttl = new HashMap<>();
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@EnableConfigurationProperties(GatewayCacheProperties.class)
+public class GatewayResponseCache {
+
+    private final GatewayCacheProperties properties;
+    private final Cache<CacheKey, ResponseEntity<Object>> cache;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public GatewayResponseCache(GatewayCacheProperties properties) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new Expiry<CacheKey, ResponseEntity<Object>>() {
+                    @Override
+                    public long expireAfterCreate(CacheKey key, ResponseEntity<Object> value, long currentTime) {
+                        return ttl(key.region).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(CacheKey key, ResponseEntity<Object> value, long currentTime,
+                                                  long currentDuration) {
+                        return ttl(key.region).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(CacheKey key, ResponseEntity<Object> value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Mono<ResponseEntity<Object>> get(@Nullable String region, String path, @Nullable Long userId,
+                                            @Nullable Map<String, Object> parameters,
+                                            Mono<ResponseEntity<Object>> loader) {
+        if (!isEnabled(region)) {
+            return loader;
+        }
+        CacheKey key = new CacheKey(region, path, userId, parameters == null ? Map.of() : toKeyParameters(parameters));
+        return Mono.defer(() -> {
+            ResponseEntity<Object> cachedResponse = cache.getIfPresent(key);
+            if (cachedResponse != null) {
+                return Mono.just(cachedResponse);
+            }
+
+            AtomicLong generation = generation(region);
+            long generationBeforeRequest = generation.get();
+            return loader.doOnNext(response -> {
+                if (response.getStatusCode().is2xxSuccessful()) {
+                    cache.put(key, response);
+                    if (generation.get() != generationBeforeRequest) {
+                        cache.invalidate(key);
+                    }
+                }
+            });
+        });
+    }
+
+    public void invalidate(String... regions) {
+        for (String region : regions) {
+            generation(region).incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> key.region.equals(region));
+        }
+    }
+
+    private boolean isEnabled(@Nullable String region) {
+        return properties.isEnabled() && region != null && !ttl(region).isZero();
+    }
+
+    private Duration ttl(String region) {
+        return properties.getTtl().getOrDefault(region, Duration.ZERO);
+    }
+
+    private AtomicLong generation(String region) {
+        return generations.computeIfAbsent(region, key -> new AtomicLong());
+    }
+
+    private static Map<String, String> toKeyParameters(Map<String, Object> parameters) {
+        Map<String, String> keyParameters = new TreeMap<>();
+        parameters.forEach((name, value) -> keyParameters.put(name, String.valueOf(value)));
+        return keyParameters;
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class CacheKey {
+        private final String region;
+        private final String path;
+        private final Long userId;
+        private final Map<String, String> parameters;
+    }
+}
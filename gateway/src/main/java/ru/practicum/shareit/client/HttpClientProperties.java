@@ -0,0 +1,25 @@
+package ru.practicum.shareit.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "shareit-gateway.http-client")
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class HttpClientProperties {
+
+    int maxTotal = 200;
+    int maxPerRoute = 200;
+    int maxPendingAcquires = 1000;
+    Duration connectTimeout = Duration.ofSeconds(2);
+    Duration responseTimeout = Duration.ofSeconds(10);
+    Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    Duration keepAlive = Duration.ofSeconds(15);
+    Duration maxIdleTime = Duration.ofSeconds(30);
+    Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
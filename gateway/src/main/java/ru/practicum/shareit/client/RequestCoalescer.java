@@ -0,0 +1,92 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class RequestCoalescer {
+
+    private static final String METRIC_PREFIX = "shareit.gateway.coalescing";
+
+    private final boolean enabled;
+    private final Map<CoalescingKey, Mono<ResponseEntity<Object>>> inFlight = new ConcurrentHashMap<>();
+    private final Counter upstreamRequests;
+    private final Counter coalescedRequests;
+
+    public RequestCoalescer(@Value("${shareit-gateway.coalescing.enabled:true}") boolean enabled,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.upstreamRequests = Counter.builder(METRIC_PREFIX + ".requests")
+                .tag("result", "upstream")
+                .register(meterRegistry);
+        this.coalescedRequests = Counter.builder(METRIC_PREFIX + ".requests")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".ratio", this, RequestCoalescer::coalescingRatio)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in-flight", inFlight, Map::size)
+                .register(meterRegistry);
+    }
+
+    public Mono<ResponseEntity<Object>> coalesce(String region, String path, @Nullable Long userId,
+                                                 @Nullable Map<String, Object> parameters,
+                                                 Mono<ResponseEntity<Object>> loader) {
+        if (!enabled) {
+            return loader;
+        }
+        CoalescingKey key = new CoalescingKey(region, path, userId,
+                parameters == null ? Map.of() : toKeyParameters(parameters));
+        return Mono.defer(() -> {
+            AtomicReference<Mono<ResponseEntity<Object>>> call = new AtomicReference<>();
+            call.set(loader
+                    .doFinally(signal -> inFlight.remove(key, call.get()))
+                    .share());
+
+            Mono<ResponseEntity<Object>> sharedCall = inFlight.putIfAbsent(key, call.get());
+            if (sharedCall != null) {
+                coalescedRequests.increment();
+                return sharedCall;
+            }
+            upstreamRequests.increment();
+            return call.get();
+        });
+    }
+
+    public void forget(String... regions) {
+        for (String region : regions) {
+            inFlight.keySet().removeIf(key -> key.region.equals(region));
+        }
+    }
+
+    private double coalescingRatio() {
+        double total = upstreamRequests.count() + coalescedRequests.count();
+        return total == 0 ? 0 : coalescedRequests.count() / total;
+    }
+
+    private static Map<String, String> toKeyParameters(Map<String, Object> parameters) {
+        Map<String, String> keyParameters = new TreeMap<>();
+        parameters.forEach((name, value) -> keyParameters.put(name, String.valueOf(value)));
+        return keyParameters;
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class CoalescingKey {
+        private final String region;
+        private final String path;
+        private final Long userId;
+        private final Map<String, String> parameters;
+    }
+}
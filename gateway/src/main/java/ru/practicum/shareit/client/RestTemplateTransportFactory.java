@@ -0,0 +1,48 @@
+package ru.practicum.shareit.client;
+
+import org.apache.commons.collections.MapUtils;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+
+public class RestTemplateTransportFactory implements GatewayTransportFactory {
+
+    private final RestTemplateBuilder builder;
+    private final ClientHttpRequestFactory requestFactory;
+
+    public RestTemplateTransportFactory(RestTemplateBuilder builder, ClientHttpRequestFactory requestFactory) {
+        this.builder = builder;
+        this.requestFactory = requestFactory;
+    }
+
+    @Override
+    public GatewayTransport create(String baseUrl) {
+        RestTemplate rest = builder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(baseUrl))
+                .requestFactory(() -> requestFactory)
+                .build();
+
+        return (method, path, userId, parameters, body) -> Mono.fromCallable(() -> {
+            HttpEntity<Object> requestEntity = new HttpEntity<>(body, BaseClient.defaultHeaders(userId));
+
+            ResponseEntity<byte[]> shareitServerResponse;
+            try {
+                if (MapUtils.isNotEmpty(parameters)) {
+                    shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
+                } else {
+                    shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
+                }
+            } catch (HttpStatusCodeException e) {
+                return BaseClient.prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(),
+                        e.getResponseBodyAsByteArray());
+            }
+            return BaseClient.prepareGatewayResponse(shareitServerResponse.getStatusCode(),
+                    shareitServerResponse.getHeaders(), shareitServerResponse.getBody());
+        });
+    }
+}
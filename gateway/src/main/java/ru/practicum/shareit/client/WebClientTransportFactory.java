@@ -0,0 +1,32 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import java.util.Map;
+
+public class WebClientTransportFactory implements GatewayTransportFactory {
+
+    private final WebClient.Builder builder;
+
+    public WebClientTransportFactory(WebClient.Builder builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public GatewayTransport create(String baseUrl) {
+        WebClient webClient = builder.clone()
+                .baseUrl(baseUrl)
+                .build();
+
+        return (method, path, userId, parameters, body) -> {
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(path, parameters == null ? Map.of() : parameters)
+                    .headers(headers -> headers.addAll(BaseClient.defaultHeaders(userId)));
+            WebClient.RequestHeadersSpec<?> requestWithBody = body == null ? request : request.bodyValue(body);
+
+            return requestWithBody.exchangeToMono(response -> response.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .map(responseBody -> BaseClient.prepareGatewayResponse(response.statusCode(),
+                            response.headers().asHttpHeaders(), responseBody)));
+        };
+    }
+}
@@ -8,5 +8,15 @@ public class Constants {
     }
 
     public static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String DEFAULT_PAGE_SIZE = "20";
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_AVAILABILITY_ITEMS = 100;
+    public static final int MAX_BOOKING_BATCH_SIZE = 500;
+    public static final String ITEM_CACHE_REGION = "items";
+    public static final String USER_CACHE_REGION = "users";
+    public static final String REQUEST_CACHE_REGION = "requests";
+    public static final String BOOKING_CACHE_REGION = "bookings";
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 }
\ No newline at end of file
@@ -2,16 +2,25 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.GatewayTransportFactory;
+import ru.practicum.shareit.client.RequestCoalescer;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
 import ru.practicum.shareit.item.itemDto.CreateItemRequest;
 import ru.practicum.shareit.item.itemDto.UpdateItemRequest;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import static ru.practicum.shareit.constants.Constants.FORMATTER;
+import static ru.practicum.shareit.constants.Constants.ITEM_CACHE_REGION;
+import static ru.practicum.shareit.constants.Constants.REQUEST_CACHE_REGION;
 
 @Service
 public class ItemClient extends BaseClient {
@@ -19,41 +28,63 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, GatewayTransportFactory transportFactory,
+                      GatewayResponseCache responseCache, RequestCoalescer requestCoalescer) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                transportFactory.create(serverUrl + API_PREFIX),
+                responseCache,
+                requestCoalescer,
+                ITEM_CACHE_REGION,
+                ITEM_CACHE_REGION, REQUEST_CACHE_REGION
         );
     }
 
-    public ResponseEntity<Object> createItem(long userId, CreateItemRequest request) {
+    public Mono<ResponseEntity<Object>> createItem(long userId, CreateItemRequest request) {
         return post("", userId, request);
     }
 
-    public ResponseEntity<Object> getAllItemsByUserId(long userId) {
+    public Mono<ResponseEntity<Object>> importItems(long userId, String format, InputStreamResource body) {
+        Map<String, Object> parameters = Map.of("format", format);
+        return post("/import?format={format}", userId, parameters, body);
+    }
+
+    public Mono<ResponseEntity<Object>> getAllItemsByUserId(long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getItemById(long itemId) {
+    public Mono<ResponseEntity<Object>> getItemById(long itemId) {
         return get("/" + itemId);
     }
 
-    public ResponseEntity<Object> searchItems(String searchText) {
+    public Mono<ResponseEntity<Object>> searchItems(String searchText) {
         Map<String, Object> parameters = Map.of("searchText", searchText);
         return get("/search?text={text}", null, parameters);
     }
 
-    public ResponseEntity<Object> updateItem(long userId, long itemId, UpdateItemRequest request) {
+    public Mono<ResponseEntity<Object>> getItemAvailability(long itemId, LocalDateTime from, LocalDateTime to) {
+        return get("/" + itemId + "/availability?from={from}&to={to}", null, periodParameters(from, to));
+    }
+
+    public Mono<ResponseEntity<Object>> getItemsAvailability(List<Long> itemIds, LocalDateTime from,
+                                                             LocalDateTime to) {
+        Map<String, Object> parameters = new HashMap<>(periodParameters(from, to));
+        parameters.put("ids", itemIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        return get("/availability?ids={ids}&from={from}&to={to}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Object>> updateItem(long userId, long itemId, UpdateItemRequest request) {
         return patch("/" + itemId, userId, request);
     }
 
-    public ResponseEntity<Object> deleteItemById(long itemId) {
+    public Mono<ResponseEntity<Object>> deleteItemById(long itemId) {
         return delete("/" + itemId);
     }
 
-    public ResponseEntity<Object> addComment(long userId, long itemId, CreateCommentRequest request) {
+    public Mono<ResponseEntity<Object>> addComment(long userId, long itemId, CreateCommentRequest request) {
         return post("/" + itemId + "/comment", userId, request);
     }
+
+    private static Map<String, Object> periodParameters(LocalDateTime from, LocalDateTime to) {
+        return Map.of("from", from.format(FORMATTER), "to", to.format(FORMATTER));
+    }
 }
\ No newline at end of file
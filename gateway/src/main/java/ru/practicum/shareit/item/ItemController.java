@@ -1,16 +1,29 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.exception.UnavailableBookingException;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
 import ru.practicum.shareit.item.itemDto.CreateItemRequest;
 import ru.practicum.shareit.item.itemDto.UpdateItemRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import static ru.practicum.shareit.constants.Constants.MAX_AVAILABILITY_ITEMS;
+import static ru.practicum.shareit.constants.Constants.TEXT_CSV_VALUE;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @Controller
@@ -24,31 +37,58 @@ public class ItemController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> createItem(@RequestHeader(USER_ID_HEADER) long userId,
+    public Mono<ResponseEntity<Object>> createItem(@RequestHeader(USER_ID_HEADER) long userId,
                                              @RequestBody @Valid CreateItemRequest request) {
         log.info("Получен запрос POST на создание вещи {}", request);
         return itemClient.createItem(userId, request);
     }
 
+    @PostMapping(path = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public Mono<ResponseEntity<Object>> importItems(@RequestHeader(USER_ID_HEADER) long userId,
+                                                    @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                    @RequestBody InputStreamResource body) {
+        String format = contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE)) ? "csv" : "ndjson";
+        log.info("Получен запрос POST на импорт вещей пользователя с id = {} в формате {}", userId, format);
+        return itemClient.importItems(userId, format, body);
+    }
+
     @GetMapping
-    public ResponseEntity<Object> getAllItemsByUserId(@RequestHeader(USER_ID_HEADER) long userId) {
+    public Mono<ResponseEntity<Object>> getAllItemsByUserId(@RequestHeader(USER_ID_HEADER) long userId) {
         log.info("Поступил запрос GET на получение списка всех вещей пользователя");
         return itemClient.getAllItemsByUserId(userId);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItemById(@PathVariable("itemId") long itemId) {
+    public Mono<ResponseEntity<Object>> getItemById(@PathVariable("itemId") long itemId) {
         log.info("Поступил запрос GET на получение данных о вещи с id = {}", itemId);
         return itemClient.getItemById(itemId);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestParam("text") String searchText) {
+    public Mono<ResponseEntity<Object>> searchItems(@RequestParam("text") String searchText) {
         return itemClient.searchItems(searchText);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<Object>> getItemAvailability(@PathVariable("itemId") long itemId,
+                                                            @RequestParam("from") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                            @RequestParam("to") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        validatePeriod(from, to);
+        log.info("Поступил запрос GET на получение занятости вещи с id = {} с {} по {}", itemId, from, to);
+        return itemClient.getItemAvailability(itemId, from, to);
+    }
+
+    @GetMapping("/availability")
+    public Mono<ResponseEntity<Object>> getItemsAvailability(@RequestParam("ids") @NotEmpty @Size(max = MAX_AVAILABILITY_ITEMS) List<Long> itemIds,
+                                                             @RequestParam("from") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                             @RequestParam("to") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        validatePeriod(from, to);
+        log.info("Поступил запрос GET на получение занятости вещей {} с {} по {}", itemIds, from, to);
+        return itemClient.getItemsAvailability(itemIds, from, to);
+    }
+
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(@RequestHeader(USER_ID_HEADER) long userId,
+    public Mono<ResponseEntity<Object>> updateItem(@RequestHeader(USER_ID_HEADER) long userId,
                                    @PathVariable("itemId") long itemId,
                                    @RequestBody @Valid UpdateItemRequest request) {
         log.info("Получен запрос PATCH на редактирование вещи {}", request);
@@ -56,17 +96,23 @@ public class ItemController {
     }
 
     @DeleteMapping("/{itemId}")
-    public ResponseEntity<Object> deleteItemById(@PathVariable("itemId") long itemId) {
+    public Mono<ResponseEntity<Object>> deleteItemById(@PathVariable("itemId") long itemId) {
         log.info("Получен запрос DELETE на удаление вещи c id = {}", itemId);
         return itemClient.deleteItemById(itemId);
     }
 
     @PostMapping("/{itemId}/comment")
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> addComment(@RequestHeader(USER_ID_HEADER) long userId,
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader(USER_ID_HEADER) long userId,
                                       @PathVariable("itemId") long itemId,
                                       @RequestBody @Valid CreateCommentRequest request) {
         log.info("Получен запрос POST на добавление нового комментария {}", request);
         return itemClient.addComment(userId, itemId, request);
     }
+
+    private static void validatePeriod(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new UnavailableBookingException("Начало периода должно быть раньше его окончания");
+        }
+    }
 }
\ No newline at end of file
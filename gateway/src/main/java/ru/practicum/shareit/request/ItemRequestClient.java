@@ -2,13 +2,16 @@ package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.GatewayTransportFactory;
+import ru.practicum.shareit.client.RequestCoalescer;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
+import java.util.Map;
+import static ru.practicum.shareit.constants.Constants.REQUEST_CACHE_REGION;
 
 @Service
 public class ItemRequestClient extends BaseClient {
@@ -16,28 +19,33 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, GatewayTransportFactory transportFactory,
+                             GatewayResponseCache responseCache, RequestCoalescer requestCoalescer) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                transportFactory.create(serverUrl + API_PREFIX),
+                responseCache,
+                requestCoalescer,
+                REQUEST_CACHE_REGION,
+                REQUEST_CACHE_REGION
         );
     }
 
-    public ResponseEntity<Object> createItemRequest(long userId, ItemRequestCreateDto request) {
+    public Mono<ResponseEntity<Object>> createItemRequest(long userId, ItemRequestCreateDto request) {
         return post("", userId, request);
     }
 
-    public ResponseEntity<Object> getAllItemRequestsByUserId(long userId) {
+    public Mono<ResponseEntity<Object>> getAllItemRequestsByUserId(long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAllItemRequests(long userId) {
-        return get("/all", userId);
+    public Mono<ResponseEntity<Object>> getAllItemRequests(long userId, String cursor, int size) {
+        if (cursor == null) {
+            return get("/all?size={size}", userId, Map.of("size", size));
+        }
+        return get("/all?size={size}&cursor={cursor}", userId, Map.of("size", size, "cursor", cursor));
     }
 
-    public ResponseEntity<Object> getItemRequestById(long requestId) {
+    public Mono<ResponseEntity<Object>> getItemRequestById(long requestId) {
         return get("/" + requestId, requestId);
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.request;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -8,7 +10,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
+import static ru.practicum.shareit.constants.Constants.DEFAULT_PAGE_SIZE;
+import static ru.practicum.shareit.constants.Constants.MAX_PAGE_SIZE;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @Controller
@@ -22,26 +27,29 @@ public class ItemRequestController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<Object> createItemRequest(@RequestHeader(USER_ID_HEADER) long userId,
+    public Mono<ResponseEntity<Object>> createItemRequest(@RequestHeader(USER_ID_HEADER) long userId,
                                                     @RequestBody @Valid ItemRequestCreateDto request) {
         log.info("Получен запрос POST на создание запроса вещи {}", request);
         return itemRequestClient.createItemRequest(userId, request);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllItemRequestsByUserId(@RequestHeader(USER_ID_HEADER) long userId) {
+    public Mono<ResponseEntity<Object>> getAllItemRequestsByUserId(@RequestHeader(USER_ID_HEADER) long userId) {
         log.info("Поступил запрос GET на получение списка всех запросов вещей пользователя с id = {}", userId);
         return itemRequestClient.getAllItemRequestsByUserId(userId);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllItemRequests(@RequestHeader(USER_ID_HEADER) long userId) {
-        log.info("Поступил запрос GET на получение списка всех существующих запросов вещей");
-        return itemRequestClient.getAllItemRequests(userId);
+    public Mono<ResponseEntity<Object>> getAllItemRequests(@RequestHeader(USER_ID_HEADER) long userId,
+                                                    @RequestParam(name = "cursor", required = false) String cursor,
+                                                    @Positive @Max(MAX_PAGE_SIZE) @RequestParam(name = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        log.info("Поступил запрос GET на получение списка всех существующих запросов вещей, cursor = {}, size = {}",
+                cursor, size);
+        return itemRequestClient.getAllItemRequests(userId, cursor, size);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getItemRequestById(@PathVariable("requestId") long requestId) {
+    public Mono<ResponseEntity<Object>> getItemRequestById(@PathVariable("requestId") long requestId) {
         log.info("Поступил запрос GET на получение запроса вещи id = {}", requestId);
         return itemRequestClient.getItemRequestById(requestId);
     }
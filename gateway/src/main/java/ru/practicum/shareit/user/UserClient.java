@@ -2,14 +2,18 @@ package ru.practicum.shareit.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.GatewayTransportFactory;
+import ru.practicum.shareit.client.RequestCoalescer;
 import ru.practicum.shareit.user.dto.CreateUserRequest;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
+import static ru.practicum.shareit.constants.Constants.ITEM_CACHE_REGION;
+import static ru.practicum.shareit.constants.Constants.REQUEST_CACHE_REGION;
+import static ru.practicum.shareit.constants.Constants.USER_CACHE_REGION;
 
 @Service
 public class UserClient extends BaseClient {
@@ -17,32 +21,34 @@ public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(@Value("${shareit-server.url}") String serverUrl, GatewayTransportFactory transportFactory,
+                      GatewayResponseCache responseCache, RequestCoalescer requestCoalescer) {
         super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                transportFactory.create(serverUrl + API_PREFIX),
+                responseCache,
+                requestCoalescer,
+                USER_CACHE_REGION,
+                USER_CACHE_REGION, ITEM_CACHE_REGION, REQUEST_CACHE_REGION
         );
     }
 
-    public ResponseEntity<Object> createUser(CreateUserRequest request) {
+    public Mono<ResponseEntity<Object>> createUser(CreateUserRequest request) {
         return post("", request);
     }
 
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         return get("");
     }
 
-    public ResponseEntity<Object> getUserById(long userId) {
+    public Mono<ResponseEntity<Object>> getUserById(long userId) {
         return get("/" + userId, userId);
     }
 
-    public ResponseEntity<Object> updateUser(long userId, UpdateUserRequest request) {
+    public Mono<ResponseEntity<Object>> updateUser(long userId, UpdateUserRequest request) {
         return patch("/" + userId, userId, request);
     }
 
-    public ResponseEntity<Object> deleteUserById(long userId) {
+    public Mono<ResponseEntity<Object>> deleteUserById(long userId) {
         return delete("/" + userId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package ru.practicum.shareit;
+
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
+
+public class GatewayLoadBenchmark {
+
+    private static final byte[] USER_JSON = "{\"id\":1,\"name\":\"user1\",\"email\":\"user1@mail.ru\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Duration SERVER_LATENCY = Duration.ofMillis(100);
+    private static final Duration RUN_TIME = Duration.ofSeconds(15);
+
+    public static void main(String[] args) throws Exception {
+        int[] concurrencyLevels = args.length > 0
+                ? java.util.Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1000, 2500, 4000};
+
+        HttpServer shareitServer = startShareitServerStub();
+        try {
+            for (boolean virtualThreads : new boolean[]{false, true}) {
+                try (ConfigurableApplicationContext gateway = startGateway(shareitServer.getAddress().getPort(),
+                        virtualThreads)) {
+                    int gatewayPort = Integer.parseInt(gateway.getEnvironment().getProperty("local.server.port"));
+                    for (int concurrency : concurrencyLevels) {
+                        run(gatewayPort, concurrency, virtualThreads);
+                    }
+                }
+            }
+        } finally {
+            shareitServer.stop(0);
+        }
+    }
+
+    private static HttpServer startShareitServerStub() throws Exception {
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "20000");
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 10_000);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/users", exchange -> {
+            try {
+                Thread.sleep(SERVER_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, USER_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(USER_JSON);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static ConfigurableApplicationContext startGateway(int shareitServerPort, boolean virtualThreads) {
+        return new SpringApplicationBuilder(ShareItGateway.class).run(
+                "--server.port=0",
+                "--shareit-server.url=http://localhost:" + shareitServerPort,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--shareit-gateway.http-client.max-total=10000",
+                "--shareit-gateway.http-client.max-per-route=10000",
+                "--shareit-gateway.http-client.connection-request-timeout=30s",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web.client.RestTemplate=WARN",
+                "--logging.level.ru.practicum.shareit=WARN");
+    }
+
+    private static void run(int gatewayPort, int concurrency, boolean virtualThreads) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + gatewayPort + "/users/1"))
+                .header(USER_ID_HEADER, "1")
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+
+        try (HttpClient httpClient = HttpClient.newHttpClient();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request,
+                                    HttpResponse.BodyHandlers.discarding());
+                            (response.statusCode() == 200 ? completed : failed).incrementAndGet();
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        System.out.printf("virtualThreads=%-5s clients=%5d  throughput=%7.0f req/s  failed=%d%n", virtualThreads,
+                concurrency, completed.get() / (double) RUN_TIME.toSeconds(), failed.get());
+    }
+}
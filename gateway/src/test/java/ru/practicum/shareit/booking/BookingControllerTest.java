@@ -10,8 +10,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import java.time.LocalDateTime;
+import java.util.List;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -46,4 +49,31 @@ public class BookingControllerTest {
 
         verify(bookingClient, never()).createBooking(anyLong(), any(CreateBookingRequest.class));
     }
+
+    @Test
+    public void getBookingsByBookerIdWhenInvalidPageSizeTest() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/bookings")
+                        .param("size", "0")
+                        .header(USER_ID_HEADER, "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError());
+
+        verify(bookingClient, never()).getBookingsByBookerId(anyLong(), any(BookingState.class), any(), anyInt());
+    }
+
+    @Test
+    public void createBookingsWhenOneEntryIsInvalidTest() throws Exception {
+        List<CreateBookingRequest> requests = List.of(
+                new CreateBookingRequest(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2), 1L),
+                new CreateBookingRequest(LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(1), 2L));
+
+        mvc.perform(MockMvcRequestBuilders.post("/bookings/batch")
+                        .content(mapper.writeValueAsString(requests))
+                        .header(USER_ID_HEADER, "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError());
+
+        verify(bookingClient, never()).createBookings(anyLong(), anyList());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaseClientPassthroughBenchmark {
+
+    @Param({"20", "1000"})
+    int bookingCount;
+
+    HttpServer shareitServer;
+    ExecutorService serverExecutor;
+    HttpComponentsClientHttpRequestFactory requestFactory;
+    BookingsClient objectClient;
+    BookingsClient byteClient;
+    MappingJackson2HttpMessageConverter jsonConverter;
+    ByteArrayHttpMessageConverter byteConverter;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        List<Map<String, Object>> bookings = new ArrayList<>();
+        for (int i = 0; i < bookingCount; i++) {
+            bookings.add(Map.of(
+                    "id", i,
+                    "start", LocalDateTime.now().plusDays(i).toString(),
+                    "end", LocalDateTime.now().plusDays(i + 1).toString(),
+                    "status", "APPROVED",
+                    "booker", Map.of("id", i, "name", "user" + i, "email", "user" + i + "@mail.ru"),
+                    "item", Map.of("id", i, "name", "item" + i, "description", "item" + i + "_description",
+                            "available", true)));
+        }
+        byte[] serverResponse = mapper.writeValueAsBytes(bookings);
+
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        serverExecutor = Executors.newFixedThreadPool(4);
+        shareitServer = HttpServer.create(new InetSocketAddress("localhost", 0), 100);
+        shareitServer.setExecutor(serverExecutor);
+        shareitServer.createContext("/bookings", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+            exchange.sendResponseHeaders(200, serverResponse.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(serverResponse);
+            }
+        });
+        shareitServer.start();
+
+        String baseUrl = "http://localhost:" + shareitServer.getAddress().getPort();
+        requestFactory = new HttpComponentsClientHttpRequestFactory();
+        RestTemplateBuilder builder = new RestTemplateBuilder();
+        RestTemplate objectRest = builder.uriTemplateHandler(new DefaultUriBuilderFactory(baseUrl))
+                .requestFactory(() -> requestFactory)
+                .build();
+        objectClient = new BookingsClient(objectTransport(objectRest));
+        byteClient = new BookingsClient(new RestTemplateTransportFactory(builder, requestFactory).create(baseUrl));
+        jsonConverter = new MappingJackson2HttpMessageConverter(mapper);
+        byteConverter = new ByteArrayHttpMessageConverter();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        requestFactory.destroy();
+        shareitServer.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void objectExchange(Blackhole blackhole) throws IOException {
+        ResponseEntity<Object> response = objectClient.getBookings().block();
+        MockHttpOutputMessage gatewayResponse = new MockHttpOutputMessage();
+        jsonConverter.write(response.getBody(), MediaType.APPLICATION_JSON, gatewayResponse);
+        blackhole.consume(gatewayResponse.getBodyAsBytes());
+    }
+
+    @Benchmark
+    public void byteExchange(Blackhole blackhole) throws IOException {
+        ResponseEntity<Object> response = byteClient.getBookings().block();
+        MockHttpOutputMessage gatewayResponse = new MockHttpOutputMessage();
+        byteConverter.write((byte[]) response.getBody(), MediaType.APPLICATION_JSON, gatewayResponse);
+        blackhole.consume(gatewayResponse.getBodyAsBytes());
+    }
+
+    private static GatewayTransport objectTransport(RestTemplate rest) {
+        return (method, path, userId, parameters, body) -> Mono.fromCallable(() -> {
+            HttpEntity<Object> requestEntity = new HttpEntity<>(body, BaseClient.defaultHeaders(userId));
+            ResponseEntity<Object> shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+            return ResponseEntity.status(shareitServerResponse.getStatusCode())
+                    .headers(shareitServerResponse.getHeaders())
+                    .body(shareitServerResponse.getBody());
+        });
+    }
+
+    static class BookingsClient extends BaseClient {
+
+        BookingsClient(GatewayTransport transport) {
+            super(transport);
+        }
+
+        Mono<ResponseEntity<Object>> getBookings() {
+            return get("/bookings", 1L);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(BaseClientPassthroughBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
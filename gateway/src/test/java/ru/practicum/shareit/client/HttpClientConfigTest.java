@@ -0,0 +1,107 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpClientConfigTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withUserConfiguration(HttpClientConfig.class, ReactiveHttpClientConfig.class)
+            .withBean(RestTemplateBuilder.class, RestTemplateBuilder::new)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    private final ReactiveWebApplicationContextRunner reactiveContextRunner = new ReactiveWebApplicationContextRunner()
+            .withUserConfiguration(HttpClientConfig.class, ReactiveHttpClientConfig.class)
+            .withBean(WebClient.Builder.class, WebClient::builder);
+
+    @Test
+    public void connectionPoolUsesConfiguredLimitsTest() {
+        contextRunner
+                .withPropertyValues("shareit-gateway.http-client.max-total=50",
+                        "shareit-gateway.http-client.max-per-route=20")
+                .run(context -> {
+                    PoolingHttpClientConnectionManager connectionManager =
+                            context.getBean(PoolingHttpClientConnectionManager.class);
+
+                    assertEquals(50, connectionManager.getMaxTotal());
+                    assertEquals(20, connectionManager.getDefaultMaxPerRoute());
+                    assertEquals(1, context.getBeansOfType(ClientHttpRequestFactory.class).size());
+                    assertInstanceOf(RestTemplateTransportFactory.class, context.getBean(GatewayTransportFactory.class));
+                    assertTrue(context.getBeansOfType(ConnectionProvider.class).isEmpty());
+                });
+    }
+
+    @Test
+    public void connectionPoolMetricsAreRegisteredTest() {
+        contextRunner.run(context -> {
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+
+            assertEquals(200, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                    .tag("httpclient", "shareit-server")
+                    .gauge()
+                    .value());
+            assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.total.pending").gauge());
+            assertNotNull(meterRegistry.get("httpcomponents.httpclient.pool.lease").timer());
+        });
+    }
+
+    @Test
+    public void idleConnectionsAreEvictedTest() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/users", exchange -> {
+            exchange.sendResponseHeaders(200, 2);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write("[]".getBytes());
+            }
+        });
+        server.start();
+        try {
+            contextRunner
+                    .withPropertyValues("shareit-gateway.http-client.max-idle-time=200ms")
+                    .run(context -> {
+                        PoolingHttpClientConnectionManager connectionManager =
+                                context.getBean(PoolingHttpClientConnectionManager.class);
+                        CloseableHttpClient httpClient = context.getBean(CloseableHttpClient.class);
+
+                        httpClient.execute(new HttpGet("http://localhost:" + server.getAddress().getPort() + "/users"),
+                                response -> EntityUtils.toString(response.getEntity()));
+                        assertEquals(1, connectionManager.getTotalStats().getAvailable());
+
+                        long deadline = System.currentTimeMillis() + 5_000;
+                        while (connectionManager.getTotalStats().getAvailable() > 0
+                                && System.currentTimeMillis() < deadline) {
+                            Thread.sleep(50);
+                        }
+                        assertEquals(0, connectionManager.getTotalStats().getAvailable());
+                    });
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void reactiveRuntimeUsesBoundedNettyPoolTest() {
+        reactiveContextRunner
+                .withPropertyValues("shareit-gateway.http-client.max-total=50")
+                .run(context -> {
+                    assertEquals(50, context.getBean(ConnectionProvider.class).maxConnections());
+                    assertInstanceOf(WebClientTransportFactory.class, context.getBean(GatewayTransportFactory.class));
+                    assertTrue(context.getBeansOfType(PoolingHttpClientConnectionManager.class).isEmpty());
+                });
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCoalescerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(true, meterRegistry);
+
+    @Test
+    public void concurrentIdenticalRequestsShareOneUpstreamCallTest() {
+        Sinks.One<ResponseEntity<Object>> upstream = Sinks.one();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<ResponseEntity<Object>> loader = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        });
+
+        List<ResponseEntity<Object>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            requestCoalescer.coalesce("items", "/1", null, null, loader).subscribe(responses::add);
+        }
+        assertEquals(1, meterRegistry.get("shareit.gateway.coalescing.in-flight").gauge().value());
+
+        upstream.tryEmitValue(ResponseEntity.ok("item1"));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(10, responses.size());
+        responses.forEach(response -> assertEquals("item1", response.getBody()));
+        assertEquals(0.9, meterRegistry.get("shareit.gateway.coalescing.ratio").gauge().value(), 0.0001);
+        assertEquals(0, meterRegistry.get("shareit.gateway.coalescing.in-flight").gauge().value());
+    }
+
+    @Test
+    public void requestsWithDifferentKeysAreNotCoalescedTest() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<ResponseEntity<Object>> loader = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.never();
+        });
+
+        requestCoalescer.coalesce("items", "/search?text={text}", null, Map.of("text", "drill"), loader).subscribe();
+        requestCoalescer.coalesce("items", "/search?text={text}", null, Map.of("text", "saw"), loader).subscribe();
+        requestCoalescer.coalesce("items", "/search?text={text}", 1L, Map.of("text", "drill"), loader).subscribe();
+
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    @Test
+    public void completedRequestIsNotReusedTest() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<ResponseEntity<Object>> loader = Mono.fromCallable(() ->
+                ResponseEntity.ok("item" + upstreamCalls.incrementAndGet()));
+
+        assertEquals("item1", requestCoalescer.coalesce("items", "/1", null, null, loader).block().getBody());
+        assertEquals("item2", requestCoalescer.coalesce("items", "/1", null, null, loader).block().getBody());
+    }
+
+    @Test
+    public void forgetStartsNewUpstreamCallAfterMutationTest() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<ResponseEntity<Object>> loader = Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.never();
+        });
+
+        requestCoalescer.coalesce("items", "/1", null, null, loader).subscribe();
+        requestCoalescer.forget("items");
+        requestCoalescer.coalesce("items", "/1", null, null, loader).subscribe();
+
+        assertEquals(2, upstreamCalls.get());
+    }
+}
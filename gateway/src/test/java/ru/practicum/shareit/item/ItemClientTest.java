@@ -0,0 +1,124 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.client.GatewayResponseCache;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.RestTemplateTransportFactory;
+import ru.practicum.shareit.item.itemDto.UpdateItemRequest;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.twice;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
+
+@RestClientTest(value = ItemClient.class, properties = {
+        "shareit-server.url=http://localhost:9090",
+        "shareit-gateway.cache.enabled=true",
+        "shareit-gateway.cache.ttl.items=1m"
+})
+@Import({GatewayResponseCache.class, RequestCoalescer.class, RestTemplateTransportFactory.class,
+        SimpleMeterRegistry.class})
+public class ItemClientTest {
+
+    private static final String ITEM_JSON = "{\"id\":1,\"name\":\"item1\"}";
+
+    @Autowired
+    private ItemClient itemClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    @MockBean
+    private ClientHttpRequestFactory requestFactory;
+
+    @Test
+    public void getItemByIdIsCachedTest() {
+        server.expect(once(), requestTo("http://localhost:9090/items/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> firstResponse = itemClient.getItemById(1L).block();
+        ResponseEntity<Object> secondResponse = itemClient.getItemById(1L).block();
+
+        assertSame(firstResponse.getBody(), secondResponse.getBody());
+        server.verify();
+    }
+
+    @Test
+    public void getItemByIdPassesServerBodyThroughTest() {
+        HttpHeaders serverHeaders = new HttpHeaders();
+        serverHeaders.set("X-Internal-Header", "value");
+        server.expect(once(), requestTo("http://localhost:9090/items/4"))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON).headers(serverHeaders));
+
+        ResponseEntity<Object> response = itemClient.getItemById(4L).block();
+
+        assertArrayEquals(ITEM_JSON.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertFalse(response.getHeaders().containsKey("X-Internal-Header"));
+        server.verify();
+    }
+
+    @Test
+    public void cacheKeyIncludesUserIdTest() {
+        server.expect(once(), requestTo("http://localhost:9090/items"))
+                .andExpect(header(USER_ID_HEADER, "1"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo("http://localhost:9090/items"))
+                .andExpect(header(USER_ID_HEADER, "2"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        itemClient.getAllItemsByUserId(1L).block();
+        itemClient.getAllItemsByUserId(2L).block();
+        itemClient.getAllItemsByUserId(1L).block();
+
+        server.verify();
+    }
+
+    @Test
+    public void updateItemInvalidatesCacheTest() {
+        server.expect(once(), requestTo("http://localhost:9090/items/3"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo("http://localhost:9090/items/3"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo("http://localhost:9090/items/3"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+
+        itemClient.getItemById(3L).block();
+        itemClient.updateItem(1L, 3L, UpdateItemRequest.builder().name("item1").build()).block();
+        itemClient.getItemById(3L).block();
+
+        server.verify();
+    }
+
+    @Test
+    public void errorResponseIsNotCachedTest() {
+        server.expect(twice(), requestTo("http://localhost:9090/items/2"))
+                .andRespond(withStatus(NOT_FOUND));
+
+        assertEquals(NOT_FOUND, itemClient.getItemById(2L).block().getStatusCode());
+        assertEquals(NOT_FOUND, itemClient.getItemById(2L).block().getStatusCode());
+
+        server.verify();
+    }
+}
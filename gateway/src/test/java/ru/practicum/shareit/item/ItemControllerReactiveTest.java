@@ -0,0 +1,62 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.itemDto.CreateItemRequest;
+import java.nio.charset.StandardCharsets;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
+
+@WebFluxTest(controllers = ItemController.class)
+public class ItemControllerReactiveTest {
+
+    @MockBean
+    private ItemClient itemClient;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void createItemWithBlankNameFieldTest() {
+        CreateItemRequest createItemRequest = new CreateItemRequest("", "description", true, null);
+
+        webTestClient.post()
+                .uri("/items")
+                .header(USER_ID_HEADER, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(createItemRequest)
+                .exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Произошла непредвиденная ошибка");
+
+        verify(itemClient, never()).createItem(anyLong(), any(CreateItemRequest.class));
+    }
+
+    @Test
+    public void getItemByIdWritesServerBytesAsIsTest() {
+        String serverBody = "{\"id\":1,\"name\":\"item1\",\"comments\":[]}";
+        when(itemClient.getItemById(1L))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(serverBody.getBytes(StandardCharsets.UTF_8))));
+
+        webTestClient.get()
+                .uri("/items/{itemId}", 1L)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBody(String.class).isEqualTo(serverBody);
+    }
+}
@@ -6,17 +6,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.core.io.InputStreamResource;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
 import ru.practicum.shareit.item.itemDto.CreateItemRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static ru.practicum.shareit.constants.Constants.MAX_AVAILABILITY_ITEMS;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @WebMvcTest(controllers = ItemController.class)
@@ -90,4 +103,71 @@ public class ItemControllerTest {
 
         verify(itemClient, never()).addComment(anyLong(), anyLong(), any(CreateCommentRequest.class));
     }
+
+    @Test
+    public void getItemByIdWritesServerBytesAsIsTest() throws Exception {
+        String serverBody = "{\"id\":1,\"name\":\"item1\",\"comments\":[]}";
+        when(itemClient.getItemById(1L))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(serverBody.getBytes(StandardCharsets.UTF_8))));
+
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.get("/items/{itemId}", 1L)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(serverBody));
+    }
+
+    @Test
+    public void getItemAvailabilityWithInvalidPeriodTest() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/items/{itemId}/availability", 1L)
+                        .param("from", "2030-01-02T00:00:00")
+                        .param("to", "2030-01-01T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).getItemAvailability(anyLong(), any(), any());
+    }
+
+    @Test
+    public void getItemsAvailabilityWithTooManyIdsTest() throws Exception {
+        String ids = LongStream.rangeClosed(1, MAX_AVAILABILITY_ITEMS + 1)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        mvc.perform(MockMvcRequestBuilders.get("/items/availability")
+                        .param("ids", ids)
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-02T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError());
+
+        verify(itemClient, never()).getItemsAvailability(any(), any(), any());
+    }
+
+    @Test
+    public void importItemsPassesCsvFormatToServerTest() throws Exception {
+        String report = "{\"imported\":1,\"failed\":0,\"errors\":[]}";
+        when(itemClient.importItems(eq(1L), eq("csv"), any(InputStreamResource.class)))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(report.getBytes(StandardCharsets.UTF_8))));
+
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.post("/items/import")
+                        .content("name,description,available\nitem1,item1_description,true\n")
+                        .header(USER_ID_HEADER, "1")
+                        .contentType("text/csv")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(report));
+    }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -44,4 +45,15 @@ public class ItemRequestControllerTest {
 
         verify(itemRequestClient, never()).createItemRequest(anyLong(), any(ItemRequestCreateDto.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getAllItemRequestsWhenPageSizeIsTooLargeTest() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/requests/all")
+                        .param("size", "1000")
+                        .header(USER_ID_HEADER, "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isInternalServerError());
+
+        verify(itemRequestClient, never()).getAllItemRequests(anyLong(), any(), anyInt());
+    }
+}
@@ -3,11 +3,16 @@ package ru.practicum.shareit.booking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.ApproveBookingRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import java.util.List;
+import static ru.practicum.shareit.constants.Constants.DEFAULT_PAGE_SIZE;
+import static ru.practicum.shareit.constants.Constants.NEXT_CURSOR_HEADER;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @RestController
@@ -26,6 +31,13 @@ public class BookingController {
         return bookingService.createBooking(request, userId);
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResult> createBookings(@RequestHeader(USER_ID_HEADER) long userId,
+                                                   @RequestBody List<CreateBookingRequest> requests) {
+        log.info("Получен запрос POST на создание {} бронирований", requests.size());
+        return bookingService.createBookings(requests, userId);
+    }
+
     @PatchMapping("/{bookingId}")
     public BookingResponse approveBooking(@RequestHeader(USER_ID_HEADER) long userId,
                                           @PathVariable("bookingId") long bookingId,
@@ -47,16 +59,28 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingResponse> getBookingsByBookerId(@RequestHeader(USER_ID_HEADER) long userId,
-                                                       @RequestParam(name = "state", defaultValue = "ALL") String state) {
+    public ResponseEntity<List<BookingResponse>> getBookingsByBookerId(@RequestHeader(USER_ID_HEADER) long userId,
+                                                                       @RequestParam(name = "state", defaultValue = "ALL") String state,
+                                                                       @RequestParam(name = "cursor", required = false) String cursor,
+                                                                       @RequestParam(name = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.info("Поступил запрос GET на получение данных о всех бронированиях пользователя с id = {}", userId);
-        return bookingService.getBookingsByBookerId(state, userId);
+        return toResponseEntity(bookingService.getBookingsByBookerId(state, userId, cursor, size));
     }
 
     @GetMapping("/owner")
-    public List<BookingResponse> getBookingsByItemOwnerId(@RequestHeader(USER_ID_HEADER) long userId,
-                                                          @RequestParam(name = "state", defaultValue = "ALL") String state) {
+    public ResponseEntity<List<BookingResponse>> getBookingsByItemOwnerId(@RequestHeader(USER_ID_HEADER) long userId,
+                                                                          @RequestParam(name = "state", defaultValue = "ALL") String state,
+                                                                          @RequestParam(name = "cursor", required = false) String cursor,
+                                                                          @RequestParam(name = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.info("Поступил запрос GET на получение данных о всех бронированиях вещей пользователя с id = {}", userId);
-        return bookingService.getBookingsByItemOwnerId(state, userId);
+        return toResponseEntity(bookingService.getBookingsByItemOwnerId(state, userId, cursor, size));
+    }
+
+    private ResponseEntity<List<BookingResponse>> toResponseEntity(BookingPage page) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return responseBuilder.body(page.getBookings());
     }
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package ru.practicum.shareit.booking;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.dto.BookingRow;
+import ru.practicum.shareit.booking.dto.BookingShortView;
 import ru.practicum.shareit.item.Item;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     boolean existsByItemIdAndEndAfterAndStartBefore(long itemId, LocalDateTime start, LocalDateTime end);
@@ -19,115 +23,195 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
             """)
     Optional<Booking> findByIdWithItem(long bookingId);
 
+    @Query("SELECT b.item.id FROM Booking AS b WHERE b.id = :bookingId")
+    Optional<Long> findItemIdByBookingId(long bookingId);
+
     @Query("""
-            SELECT b
+            SELECT b.id AS id, b.item.id AS itemId, b.start AS startTime, b.end AS endTime
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.booker.id = :bookerId
-            ORDER BY b.start DESC
             """)
-    List<Booking> findByBookerIdOrderByStartDesc(long bookerId);
+    List<BookingIntervalView> findAllIntervals();
 
     @Query("""
-            SELECT b
+            SELECT b.id AS id, b.item.id AS itemId, b.start AS startTime, b.end AS endTime
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.booker.id = :bookerId
+            WHERE b.booker.id = :userId
+            OR b.item.owner.id = :userId
+            """)
+    List<BookingIntervalView> findIntervalsByUserId(long userId);
+
+    @Query("""
+            SELECT b.id AS id, b.item.id AS itemId, b.start AS startTime, b.end AS endTime
+            FROM Booking AS b
+            WHERE b.item.id IN :itemIds
+            AND b.end > :from
+            AND b.start < :to
+            ORDER BY b.item.id, b.start
+            """)
+    List<BookingIntervalView> findIntervalsByItemIds(Collection<Long> itemIds, LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
+            FROM Booking AS b
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE u.id = :bookerId
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
+            """)
+    List<BookingRow> findByBookerIdOrderByStartDesc(long bookerId, LocalDateTime cursorStart, long cursorId,
+                                                    Limit limit);
+
+    @Query("""
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
+            FROM Booking AS b
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE u.id = :bookerId
             AND b.start <= :start
             AND b.end >= :end
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(long bookerId, LocalDateTime start, LocalDateTime end);
+    List<BookingRow> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(long bookerId, LocalDateTime start,
+                                                                             LocalDateTime end,
+                                                                             LocalDateTime cursorStart, long cursorId,
+                                                                             Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.booker.id = :bookerId
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE u.id = :bookerId
             AND b.end <= :now
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> findByBookerIdAndEndBeforeOrderByStartDesc(long bookerId, LocalDateTime now);
+    List<BookingRow> findByBookerIdAndEndBeforeOrderByStartDesc(long bookerId, LocalDateTime now,
+                                                                LocalDateTime cursorStart, long cursorId, Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.booker.id = :bookerId
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE u.id = :bookerId
             AND b.start >= :now
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> findByBookerIdAndStartAfterOrderByStartDesc(long bookerId, LocalDateTime now);
+    List<BookingRow> findByBookerIdAndStartAfterOrderByStartDesc(long bookerId, LocalDateTime now,
+                                                                 LocalDateTime cursorStart, long cursorId, Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.booker.id = :bookerId
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE u.id = :bookerId
             AND b.status = :status
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> findByBookerIdAndStatusOrderByStartDesc(long bookerId, BookingStatus status);
+    List<BookingRow> findByBookerIdAndStatusOrderByStartDesc(long bookerId, BookingStatus status,
+                                                             LocalDateTime cursorStart, long cursorId, Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.item.owner.id = :ownerId
-            ORDER BY b.start DESC
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE i.owner.id = :ownerId
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> getAllBookingsByOwnerIdOrderByStartDesc(long ownerId);
+    List<BookingRow> getAllBookingsByOwnerIdOrderByStartDesc(long ownerId, LocalDateTime cursorStart, long cursorId,
+                                                             Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.item.owner.id = :ownerId
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE i.owner.id = :ownerId
             AND b.start <= :now AND b.end >= :now
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> getCurrentBookingsByOwnerIdOrderByStartDesc(long ownerId, LocalDateTime now);
+    List<BookingRow> getCurrentBookingsByOwnerIdOrderByStartDesc(long ownerId, LocalDateTime now,
+                                                                 LocalDateTime cursorStart, long cursorId, Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.item.owner.id = :ownerId
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE i.owner.id = :ownerId
             AND b.end <= :now
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> getPastBookingsByOwnerIdOrderByStartDesc(long ownerId, LocalDateTime now);
+    List<BookingRow> getPastBookingsByOwnerIdOrderByStartDesc(long ownerId, LocalDateTime now,
+                                                              LocalDateTime cursorStart, long cursorId, Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.item.owner.id = :ownerId
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE i.owner.id = :ownerId
             AND b.start >= :now
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> getFutureBookingsByOwnerIdOrderByStartDesc(long ownerId, LocalDateTime now);
+    List<BookingRow> getFutureBookingsByOwnerIdOrderByStartDesc(long ownerId, LocalDateTime now,
+                                                                LocalDateTime cursorStart, long cursorId, Limit limit);
 
     @Query("""
-            SELECT b
+            SELECT new ru.practicum.shareit.booking.dto.BookingRow(b.id, b.start, b.end, b.status, i.id, i.name,
+                   i.description, i.available, i.request.id, u.id, u.name, u.email)
             FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.item.owner.id = :ownerId
+            JOIN b.item AS i
+            JOIN b.booker AS u
+            WHERE i.owner.id = :ownerId
             AND b.status = :status
-            ORDER BY b.start DESC
-            """)
-    List<Booking> getBookingsByOwnerIdAndStatusOrderByStartDesc(long ownerId, BookingStatus status);
-
-    @Query("""
-            SELECT b
-            FROM Booking AS b
-            JOIN FETCH b.item AS i
-            WHERE b.item.id
-            IN :itemIds
-            AND b.status = 'APPROVED'
-            ORDER BY b.start DESC
+            AND (b.start, b.id) < (:cursorStart, :cursorId)
+            ORDER BY b.start DESC, b.id DESC
             """)
-    List<Booking> findByItemIdIn(Set<Long> itemIds);
+    List<BookingRow> getBookingsByOwnerIdAndStatusOrderByStartDesc(long ownerId, BookingStatus status,
+                                                                   LocalDateTime cursorStart, long cursorId,
+                                                                   Limit limit);
+
+    @Query(value = """
+            SELECT r.id AS id, r.item_id AS "itemId", r.start_time AS "startTime", r.end_time AS "endTime",
+                   u.id AS "bookerId", u.name AS "bookerName", u.email AS "bookerEmail", r.is_last AS "lastBooking"
+            FROM (
+                SELECT b.id, b.item_id, b.start_time, b.end_time, b.booker_id,
+                       b.start_time < :now AS is_last,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY b.item_id, b.start_time < :now
+                           ORDER BY CASE WHEN b.start_time < :now THEN b.start_time END DESC,
+                                    CASE WHEN b.start_time > :now THEN b.start_time END ASC
+                       ) AS rn
+                FROM bookings AS b
+                WHERE b.item_id IN :itemIds
+                AND b.status = 'APPROVED'
+                AND b.start_time <> :now
+            ) AS r
+            JOIN users AS u ON u.id = r.booker_id
+            WHERE r.rn = 1
+            """, nativeQuery = true)
+    List<BookingShortView> findLastAndNextBookingsByItemIdIn(Collection<Long> itemIds, LocalDateTime now);
 
     @Query("""
             SELECT b
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.booking;
 
 import ru.practicum.shareit.booking.dto.ApproveBookingRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import java.util.List;
@@ -8,11 +10,13 @@ import java.util.List;
 public interface BookingService {
     BookingResponse createBooking(CreateBookingRequest request, long userId);
 
+    List<BookingBatchResult> createBookings(List<CreateBookingRequest> requests, long userId);
+
     BookingResponse approveBooking(ApproveBookingRequest request);
 
     BookingResponse getBookingById(long bookingId, long userId);
 
-    List<BookingResponse> getBookingsByBookerId(String state, long bookerId);
+    BookingPage getBookingsByBookerId(String state, long bookerId, String cursor, int size);
 
-    List<BookingResponse> getBookingsByItemOwnerId(String state, long userId);
+    BookingPage getBookingsByItemOwnerId(String state, long userId, String cursor, int size);
 }
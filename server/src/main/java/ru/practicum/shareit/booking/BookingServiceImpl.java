@@ -2,12 +2,21 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.availability.BookedPeriod;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
 import ru.practicum.shareit.booking.dto.ApproveBookingRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingRow;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
+import ru.practicum.shareit.booking.lock.ItemLockManager;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.UnavailableBookingException;
@@ -16,7 +25,20 @@ import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static ru.practicum.shareit.constants.Constants.BOOKING_OVERLAP_CONSTRAINT;
+import static ru.practicum.shareit.constants.Constants.MAX_BOOKING_BATCH_SIZE;
+import static ru.practicum.shareit.constants.Constants.MAX_PAGE_SIZE;
 
 @Service
 @Transactional(readOnly = true)
@@ -24,16 +46,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final String OVERLAPPING_BOOKING_MESSAGE = "Даты другого бронирования частично или полностью " +
+            "перекрывают запрошенные";
+
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ItemLockManager itemLockManager;
+    private final BookingAvailability bookingAvailability;
 
     @Override
     @Transactional
     public BookingResponse createBooking(CreateBookingRequest request, long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(String.format(
                 "Пользователя с id = %d нет в базе", userId)));
-        Item item = itemRepository.findById(request.getItemId()).orElseThrow(() -> new NotFoundException(String.format("Вещи с id " +
+        itemLockManager.lockItem(request.getItemId());
+        Item item = itemRepository.findByIdForUpdate(request.getItemId()).orElseThrow(() -> new NotFoundException(String.format("Вещи с id " +
                 "= %d нет в базе", request.getItemId())));
 
         if (!item.getAvailable()) {
@@ -43,12 +71,10 @@ public class BookingServiceImpl implements BookingService {
             throw new ForbiddenException("Владелец не может забронировать свою вещь");
         }
 
-        boolean isAlreadyBooked = bookingRepository.existsByItemIdAndEndAfterAndStartBefore(item.getId(),
-                request.getStart(), request.getEnd());
+        boolean isAlreadyBooked = bookingAvailability.isBooked(item.getId(), request.getStart(), request.getEnd());
 
         if (isAlreadyBooked) {
-            throw new UnavailableBookingException("Даты другого бронирования частично или полностью перекрывают " +
-                    "запрошенные");
+            throw new UnavailableBookingException(OVERLAPPING_BOOKING_MESSAGE);
         }
 
         Booking booking = Booking.builder()
@@ -59,12 +85,81 @@ public class BookingServiceImpl implements BookingService {
                 .status(BookingStatus.WAITING)
                 .build();
 
-        return BookingMapper.toBookingResponse(bookingRepository.save(booking));
+        try {
+            Booking savedBooking = bookingRepository.save(booking);
+            bookingRepository.flush();
+            bookingAvailability.add(savedBooking);
+            return BookingMapper.toBookingResponse(savedBooking);
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlapViolation(e)) {
+                throw new UnavailableBookingException(OVERLAPPING_BOOKING_MESSAGE);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<BookingBatchResult> createBookings(List<CreateBookingRequest> requests, long userId) {
+        if (requests.size() > MAX_BOOKING_BATCH_SIZE) {
+            throw new UnavailableBookingException(String.format("За один запрос можно создать не более %d " +
+                    "бронирований", MAX_BOOKING_BATCH_SIZE));
+        }
+        User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(String.format(
+                "Пользователя с id = %d нет в базе", userId)));
+        Set<Long> itemIds = requests.stream()
+                .map(CreateBookingRequest::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        itemIds.forEach(itemLockManager::lockItem);
+        Map<Long, Item> items = itemRepository.findAllByIdForUpdate(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+
+        Map<Long, List<BookedPeriod>> bookedPeriods = findBookedPeriods(requests, items);
+
+        List<BookingBatchResult> results = new ArrayList<>(requests.size());
+        List<Booking> bookings = new ArrayList<>();
+        for (CreateBookingRequest request : requests) {
+            try {
+                Booking booking = toNewBooking(request, user, items, bookedPeriods);
+                bookedPeriods.computeIfAbsent(booking.getItem().getId(), itemId -> new ArrayList<>())
+                        .add(new BookedPeriod(booking.getStart(), booking.getEnd()));
+                bookings.add(booking);
+                results.add(BookingBatchResult.builder().status(HttpStatus.CREATED.value()).build());
+            } catch (NotFoundException e) {
+                results.add(toFailedResult(HttpStatus.NOT_FOUND, e));
+            } catch (ForbiddenException e) {
+                results.add(toFailedResult(HttpStatus.FORBIDDEN, e));
+            } catch (UnavailableBookingException e) {
+                results.add(toFailedResult(HttpStatus.BAD_REQUEST, e));
+            }
+        }
+
+        try {
+            bookingRepository.saveAll(bookings);
+            bookingRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (isOverlapViolation(e)) {
+                throw new UnavailableBookingException(OVERLAPPING_BOOKING_MESSAGE);
+            }
+            throw e;
+        }
+        int saved = 0;
+        for (BookingBatchResult result : results) {
+            if (result.getError() == null) {
+                Booking booking = bookings.get(saved++);
+                bookingAvailability.add(booking);
+                result.setBooking(BookingMapper.toBookingResponse(booking));
+            }
+        }
+        log.info("Создано {} из {} бронирований пользователя с id = {}", bookings.size(), requests.size(), userId);
+        return results;
     }
 
     @Override
     @Transactional
     public BookingResponse approveBooking(ApproveBookingRequest request) {
+        bookingRepository.findItemIdByBookingId(request.getBookingId()).ifPresent(itemLockManager::lockItem);
         Booking booking = bookingRepository.findByIdWithItem(request.getBookingId()).orElseThrow(() ->
                 new NotFoundException(String.format("Бронирования с id = %d нет в базе", request.getBookingId())));
         Item item = booking.getItem();
@@ -101,41 +196,150 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingResponse> getBookingsByBookerId(String state, long bookerId) {
+    public BookingPage getBookingsByBookerId(String state, long bookerId, String cursor, int size) {
+        validatePageSize(size);
         User user = userRepository.findById(bookerId).orElseThrow(() -> new NotFoundException(String.format(
                 "Пользователя с id = %d нет в базе", bookerId)));
-        List<Booking> bookings;
+        List<BookingRow> bookings;
         BookingState bookingState = BookingState.from(state.toUpperCase()).orElseThrow(() ->
                 new UnavailableBookingException("Введён некорректный статус бронирования"));
+        BookingCursor position = BookingCursor.decode(cursor);
+        LocalDateTime cursorStart = position.getStart();
+        long cursorId = position.getId();
+        LocalDateTime now = LocalDateTime.now();
+        Limit limit = Limit.of(size + 1);
 
         bookings = switch (bookingState) {
             case CURRENT -> bookingRepository.findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(user.getId(),
-                    LocalDateTime.now(), LocalDateTime.now());
-            case PAST -> bookingRepository.findByBookerIdAndEndBeforeOrderByStartDesc(user.getId(), LocalDateTime.now());
-            case FUTURE -> bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(user.getId(), LocalDateTime.now());
-            case WAITING -> bookingRepository.findByBookerIdAndStatusOrderByStartDesc(user.getId(), BookingStatus.WAITING);
-            case REJECTED -> bookingRepository.findByBookerIdAndStatusOrderByStartDesc(user.getId(), BookingStatus.REJECTED);
-            default -> bookingRepository.findByBookerIdOrderByStartDesc(user.getId());
+                    now, now, cursorStart, cursorId, limit);
+            case PAST -> bookingRepository.findByBookerIdAndEndBeforeOrderByStartDesc(user.getId(), now, cursorStart,
+                    cursorId, limit);
+            case FUTURE -> bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(user.getId(), now,
+                    cursorStart, cursorId, limit);
+            case WAITING -> bookingRepository.findByBookerIdAndStatusOrderByStartDesc(user.getId(),
+                    BookingStatus.WAITING, cursorStart, cursorId, limit);
+            case REJECTED -> bookingRepository.findByBookerIdAndStatusOrderByStartDesc(user.getId(),
+                    BookingStatus.REJECTED, cursorStart, cursorId, limit);
+            default -> bookingRepository.findByBookerIdOrderByStartDesc(user.getId(), cursorStart, cursorId, limit);
         };
-        return BookingMapper.toListOfBookingsResponse(bookings);
+        return toBookingPage(bookings, size);
     }
 
     @Override
-    public List<BookingResponse> getBookingsByItemOwnerId(String state, long userId) {
+    public BookingPage getBookingsByItemOwnerId(String state, long userId, String cursor, int size) {
+        validatePageSize(size);
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(String.format(
                 "Пользователя с id = %d нет в базе", userId)));
-        List<Booking> bookings;
+        List<BookingRow> bookings;
         BookingState bookingState = BookingState.from(state.toUpperCase()).orElseThrow(() ->
                 new UnavailableBookingException("Введён некорректный статус бронирования"));
+        BookingCursor position = BookingCursor.decode(cursor);
+        LocalDateTime cursorStart = position.getStart();
+        long cursorId = position.getId();
+        LocalDateTime now = LocalDateTime.now();
+        Limit limit = Limit.of(size + 1);
 
         bookings = switch (bookingState) {
-            case CURRENT -> bookingRepository.getCurrentBookingsByOwnerIdOrderByStartDesc(user.getId(), LocalDateTime.now());
-            case PAST -> bookingRepository.getPastBookingsByOwnerIdOrderByStartDesc(user.getId(), LocalDateTime.now());
-            case FUTURE -> bookingRepository.getFutureBookingsByOwnerIdOrderByStartDesc(user.getId(), LocalDateTime.now());
-            case WAITING -> bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(user.getId(), BookingStatus.WAITING);
-            case REJECTED -> bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(user.getId(), BookingStatus.REJECTED);
-            default -> bookingRepository.getAllBookingsByOwnerIdOrderByStartDesc(user.getId());
+            case CURRENT -> bookingRepository.getCurrentBookingsByOwnerIdOrderByStartDesc(user.getId(), now,
+                    cursorStart, cursorId, limit);
+            case PAST -> bookingRepository.getPastBookingsByOwnerIdOrderByStartDesc(user.getId(), now, cursorStart,
+                    cursorId, limit);
+            case FUTURE -> bookingRepository.getFutureBookingsByOwnerIdOrderByStartDesc(user.getId(), now,
+                    cursorStart, cursorId, limit);
+            case WAITING -> bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(user.getId(),
+                    BookingStatus.WAITING, cursorStart, cursorId, limit);
+            case REJECTED -> bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(user.getId(),
+                    BookingStatus.REJECTED, cursorStart, cursorId, limit);
+            default -> bookingRepository.getAllBookingsByOwnerIdOrderByStartDesc(user.getId(), cursorStart, cursorId,
+                    limit);
         };
-        return BookingMapper.toListOfBookingsResponse(bookings);
+        return toBookingPage(bookings, size);
+    }
+
+    private BookingPage toBookingPage(List<BookingRow> bookings, int size) {
+        if (bookings == null || bookings.size() <= size) {
+            return BookingPage.builder()
+                    .bookings(BookingMapper.toListOfBookingsResponse(bookings))
+                    .build();
+        }
+        List<BookingRow> page = bookings.subList(0, size);
+        return BookingPage.builder()
+                .bookings(BookingMapper.toListOfBookingsResponse(page))
+                .nextCursor(BookingCursor.after(page.getLast()).encode())
+                .build();
+    }
+
+    private Map<Long, List<BookedPeriod>> findBookedPeriods(List<CreateBookingRequest> requests,
+                                                            Map<Long, Item> items) {
+        List<CreateBookingRequest> bookable = requests.stream()
+                .filter(request -> isValidPeriod(request) && items.containsKey(request.getItemId()))
+                .toList();
+        Map<Long, List<BookedPeriod>> periods = new HashMap<>();
+        if (bookable.isEmpty()) {
+            return periods;
+        }
+        LocalDateTime from = bookable.stream().map(CreateBookingRequest::getStart)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = bookable.stream().map(CreateBookingRequest::getEnd)
+                .max(Comparator.naturalOrder()).orElseThrow();
+        bookingRepository.findIntervalsByItemIds(items.keySet(), from, to).forEach(booking -> periods
+                .computeIfAbsent(booking.getItemId(), itemId -> new ArrayList<>())
+                .add(new BookedPeriod(booking.getStartTime(), booking.getEndTime())));
+        return periods;
+    }
+
+    private boolean isValidPeriod(CreateBookingRequest request) {
+        return request.getItemId() != null && request.getStart() != null && request.getEnd() != null
+                && request.getStart().isBefore(request.getEnd());
+    }
+
+    private Booking toNewBooking(CreateBookingRequest request, User user, Map<Long, Item> items,
+                                 Map<Long, List<BookedPeriod>> bookedPeriods) {
+        if (!isValidPeriod(request)) {
+            throw new UnavailableBookingException("Задано неверное время начала бронирования");
+        }
+        Item item = items.get(request.getItemId());
+        if (item == null) {
+            throw new NotFoundException(String.format("Вещи с id = %d нет в базе", request.getItemId()));
+        }
+        if (!item.getAvailable()) {
+            throw new UnavailableBookingException("Данная вещь не доступна для аренды");
+        }
+        if (item.getOwner().getId().equals(user.getId())) {
+            throw new ForbiddenException("Владелец не может забронировать свою вещь");
+        }
+        boolean isBooked = bookedPeriods.getOrDefault(item.getId(), List.of()).stream()
+                .anyMatch(period -> period.getStart().isBefore(request.getEnd())
+                        && period.getEnd().isAfter(request.getStart()));
+        if (isBooked) {
+            throw new UnavailableBookingException(OVERLAPPING_BOOKING_MESSAGE);
+        }
+
+        return Booking.builder()
+                .start(request.getStart())
+                .end(request.getEnd())
+                .item(item)
+                .booker(user)
+                .status(BookingStatus.WAITING)
+                .build();
+    }
+
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new UnavailableBookingException(String.format("Размер страницы должен быть от 1 до %d",
+                    MAX_PAGE_SIZE));
+        }
+    }
+
+    private static BookingBatchResult toFailedResult(HttpStatus status, RuntimeException e) {
+        return BookingBatchResult.builder()
+                .status(status.value())
+                .error(e.getMessage())
+                .build();
+    }
+
+    private static boolean isOverlapViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(BOOKING_OVERLAP_CONSTRAINT);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.booking.availability;
+
+import ru.practicum.shareit.booking.Booking;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface BookingAvailability {
+
+    boolean isBooked(long itemId, LocalDateTime start, LocalDateTime end);
+
+    Map<Long, List<BookedPeriod>> findBookedPeriods(Collection<Long> itemIds, LocalDateTime from, LocalDateTime to);
+
+    void add(Booking booking);
+
+    void removeItem(long itemId);
+
+    void removeUser(long userId);
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.booking.availability;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.availability.backend", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseBookingAvailability implements BookingAvailability {
+
+    private final BookingRepository bookingRepository;
+
+    @Override
+    public boolean isBooked(long itemId, LocalDateTime start, LocalDateTime end) {
+        return bookingRepository.existsByItemIdAndEndAfterAndStartBefore(itemId, start, end);
+    }
+
+    @Override
+    public Map<Long, List<BookedPeriod>> findBookedPeriods(Collection<Long> itemIds, LocalDateTime from,
+                                                           LocalDateTime to) {
+        Map<Long, List<BookedPeriod>> periods = new HashMap<>();
+        bookingRepository.findIntervalsByItemIds(itemIds, from, to).forEach(booking -> periods
+                .computeIfAbsent(booking.getItemId(), itemId -> new ArrayList<>())
+                .add(new BookedPeriod(booking.getStartTime(), booking.getEndTime())));
+        return periods;
+    }
+
+    @Override
+    public void add(Booking booking) {
+    }
+
+    @Override
+    public void removeItem(long itemId) {
+    }
+
+    @Override
+    public void removeUser(long userId) {
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit.booking.availability;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import static ru.practicum.shareit.util.TransactionCallbacks.afterCommit;
+import static ru.practicum.shareit.util.TransactionCallbacks.afterRollback;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.availability.backend", havingValue = "memory")
+@Slf4j
+@RequiredArgsConstructor
+public class InMemoryBookingAvailability implements BookingAvailability {
+
+    private static final long MICROS_PER_SECOND = 1_000_000;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private final BookingRepository bookingRepository;
+    private final Object lock = new Object();
+    private volatile ItemIntervalsTable intervals = new ItemIntervalsTable();
+    private volatile boolean ready;
+    private List<Consumer<ItemIntervalsTable>> pending = new ArrayList<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (lock) {
+            if (pending == null) {
+                pending = new ArrayList<>();
+            }
+        }
+        List<BookingIntervalView> bookings = bookingRepository.findAllIntervals();
+        ItemIntervalsTable rebuilt = new ItemIntervalsTable();
+        bookings.forEach(booking -> rebuilt.update(booking.getItemId(), itemIntervals -> itemIntervals.with(
+                booking.getId(), floorMicros(booking.getStartTime()), ceilMicros(booking.getEndTime()))));
+        synchronized (lock) {
+            pending.forEach(change -> change.accept(rebuilt));
+            log.info("Индекс доступности вещей построен, бронирований: {}, изменений во время построения: {}",
+                    bookings.size(), pending.size());
+            pending = null;
+            intervals = rebuilt;
+            ready = true;
+        }
+    }
+
+    @Override
+    public boolean isBooked(long itemId, LocalDateTime start, LocalDateTime end) {
+        if (!ready) {
+            return bookingRepository.existsByItemIdAndEndAfterAndStartBefore(itemId, start, end);
+        }
+        return intervals.get(itemId).overlaps(floorMicros(start), ceilMicros(end));
+    }
+
+    @Override
+    public Map<Long, List<BookedPeriod>> findBookedPeriods(Collection<Long> itemIds, LocalDateTime from,
+                                                           LocalDateTime to) {
+        Map<Long, List<BookedPeriod>> periods = new HashMap<>();
+        if (!ready) {
+            bookingRepository.findIntervalsByItemIds(itemIds, from, to).forEach(booking -> periods
+                    .computeIfAbsent(booking.getItemId(), itemId -> new ArrayList<>())
+                    .add(new BookedPeriod(booking.getStartTime(), booking.getEndTime())));
+            return periods;
+        }
+        ItemIntervalsTable current = intervals;
+        for (Long itemId : itemIds) {
+            List<BookedPeriod> itemPeriods = new ArrayList<>();
+            current.get(itemId).forEachOverlapping(floorMicros(from), ceilMicros(to), (start, end) ->
+                    itemPeriods.add(new BookedPeriod(toDateTime(start), toDateTime(end))));
+            if (!itemPeriods.isEmpty()) {
+                periods.put(itemId, itemPeriods);
+            }
+        }
+        return periods;
+    }
+
+    @Override
+    public void add(Booking booking) {
+        long itemId = booking.getItem().getId();
+        long bookingId = booking.getId();
+        long start = floorMicros(booking.getStart());
+        long end = ceilMicros(booking.getEnd());
+        update(itemId, itemIntervals -> itemIntervals.without(bookingId).with(bookingId, start, end));
+        afterRollback(() -> update(itemId, itemIntervals -> itemIntervals.without(bookingId)));
+    }
+
+    @Override
+    public void removeItem(long itemId) {
+        afterCommit(() -> update(itemId, itemIntervals -> ItemIntervals.EMPTY));
+    }
+
+    @Override
+    public void removeUser(long userId) {
+        List<BookingIntervalView> bookings = bookingRepository.findIntervalsByUserId(userId);
+        afterCommit(() -> bookings.forEach(booking -> update(booking.getItemId(),
+                itemIntervals -> itemIntervals.without(booking.getId()))));
+    }
+
+    private void update(long itemId, UnaryOperator<ItemIntervals> change) {
+        synchronized (lock) {
+            intervals.update(itemId, change);
+            if (pending != null) {
+                pending.add(table -> table.update(itemId, change));
+            }
+        }
+    }
+
+    private static long floorMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / NANOS_PER_MICRO;
+    }
+
+    private static long ceilMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND
+                + (dateTime.getNano() + NANOS_PER_MICRO - 1) / NANOS_PER_MICRO;
+    }
+
+    private static LocalDateTime toDateTime(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, MICROS_PER_SECOND),
+                (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit.booking.availability;
+
+import java.util.Arrays;
+
+final class ItemIntervals {
+
+    static final ItemIntervals EMPTY = new ItemIntervals(new long[0], new long[0], new long[0], new long[0]);
+
+    private final long[] bookingIds;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private ItemIntervals(long[] bookingIds, long[] starts, long[] ends, long[] maxEnds) {
+        this.bookingIds = bookingIds;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnds = maxEnds;
+    }
+
+    boolean overlaps(long from, long to) {
+        int last = lastStartingBefore(to);
+        return last >= 0 && maxEnds[last] > from;
+    }
+
+    void forEachOverlapping(long from, long to, IntervalConsumer consumer) {
+        int last = lastStartingBefore(to);
+        for (int i = firstEndingAfter(from, last); i <= last; i++) {
+            if (ends[i] > from) {
+                consumer.accept(starts[i], ends[i]);
+            }
+        }
+    }
+
+    int size() {
+        return starts.length;
+    }
+
+    ItemIntervals with(long bookingId, long start, long end) {
+        int size = starts.length;
+        int position = lastStartingBefore(start + 1) + 1;
+        long[] newBookingIds = insert(bookingIds, position, bookingId);
+        long[] newStarts = insert(starts, position, start);
+        long[] newEnds = insert(ends, position, end);
+        long[] newMaxEnds = Arrays.copyOf(maxEnds, size + 1);
+        for (int i = position; i <= size; i++) {
+            newMaxEnds[i] = i == 0 ? newEnds[i] : Math.max(newMaxEnds[i - 1], newEnds[i]);
+        }
+        return new ItemIntervals(newBookingIds, newStarts, newEnds, newMaxEnds);
+    }
+
+    ItemIntervals without(long bookingId) {
+        int position = -1;
+        for (int i = 0; i < bookingIds.length; i++) {
+            if (bookingIds[i] == bookingId) {
+                position = i;
+                break;
+            }
+        }
+        if (position < 0) {
+            return this;
+        }
+        if (bookingIds.length == 1) {
+            return EMPTY;
+        }
+        long[] newBookingIds = delete(bookingIds, position);
+        long[] newStarts = delete(starts, position);
+        long[] newEnds = delete(ends, position);
+        long[] newMaxEnds = Arrays.copyOf(maxEnds, newEnds.length);
+        for (int i = position; i < newEnds.length; i++) {
+            newMaxEnds[i] = i == 0 ? newEnds[i] : Math.max(newMaxEnds[i - 1], newEnds[i]);
+        }
+        return new ItemIntervals(newBookingIds, newStarts, newEnds, newMaxEnds);
+    }
+
+    private int lastStartingBefore(long time) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    private int firstEndingAfter(long time, int last) {
+        int low = 0;
+        int high = last;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (maxEnds[middle] > time) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static long[] insert(long[] values, int position, long value) {
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, position);
+        result[position] = value;
+        System.arraycopy(values, position, result, position + 1, values.length - position);
+        return result;
+    }
+
+    private static long[] delete(long[] values, int position) {
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, position);
+        System.arraycopy(values, position + 1, result, position, values.length - position - 1);
+        return result;
+    }
+
+    @FunctionalInterface
+    interface IntervalConsumer {
+        void accept(long start, long end);
+    }
+}
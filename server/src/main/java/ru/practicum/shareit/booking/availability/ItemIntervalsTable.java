@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking.availability;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+
+final class ItemIntervalsTable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private volatile Slots slots = new Slots(INITIAL_CAPACITY);
+
+    ItemIntervals get(long itemId) {
+        Slots current = slots;
+        int mask = current.capacity - 1;
+        for (int i = index(itemId, mask); ; i = (i + 1) & mask) {
+            long key = current.keys.get(i);
+            if (key == itemId) {
+                return current.values.get(i);
+            }
+            if (key == 0) {
+                return ItemIntervals.EMPTY;
+            }
+        }
+    }
+
+    synchronized void update(long itemId, UnaryOperator<ItemIntervals> change) {
+        if ((slots.used + 1) * 2 > slots.capacity) {
+            slots = resize(slots);
+        }
+        Slots current = slots;
+        int mask = current.capacity - 1;
+        for (int i = index(itemId, mask); ; i = (i + 1) & mask) {
+            long key = current.keys.get(i);
+            if (key == itemId) {
+                current.values.set(i, change.apply(current.values.get(i)));
+                return;
+            }
+            if (key == 0) {
+                current.values.set(i, change.apply(ItemIntervals.EMPTY));
+                current.keys.set(i, itemId);
+                current.used++;
+                return;
+            }
+        }
+    }
+
+    private static Slots resize(Slots old) {
+        int live = 0;
+        for (int i = 0; i < old.capacity; i++) {
+            if (old.keys.get(i) != 0 && old.values.get(i).size() > 0) {
+                live++;
+            }
+        }
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < (live + 1) * 4) {
+            capacity <<= 1;
+        }
+        Slots resized = new Slots(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < old.capacity; i++) {
+            long key = old.keys.get(i);
+            ItemIntervals value = old.values.get(i);
+            if (key == 0 || value.size() == 0) {
+                continue;
+            }
+            int slot = index(key, mask);
+            while (resized.keys.get(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            resized.values.set(slot, value);
+            resized.keys.set(slot, key);
+            resized.used++;
+        }
+        return resized;
+    }
+
+    private static int index(long itemId, int mask) {
+        long hash = itemId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static final class Slots {
+        private final int capacity;
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<ItemIntervals> values;
+        private int used;
+
+        private Slots(int capacity) {
+            this.capacity = capacity;
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+        }
+    }
+}
@@ -4,7 +4,9 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.item.itemDto.ItemMapper;
+import ru.practicum.shareit.item.itemDto.ItemResponse;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserResponse;
 import java.util.ArrayList;
 import java.util.List;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
@@ -23,6 +25,27 @@ public class BookingMapper {
                 .build();
     }
 
+    public static BookingResponse toBookingResponse(BookingRow booking) {
+        return BookingResponse.builder()
+                .id(booking.getId())
+                .start(FORMATTER.format(booking.getStart()))
+                .end(FORMATTER.format(booking.getEnd()))
+                .item(ItemResponse.builder()
+                        .id(booking.getItemId())
+                        .name(booking.getItemName())
+                        .description(booking.getItemDescription())
+                        .available(booking.getItemAvailable())
+                        .request(booking.getItemRequestId())
+                        .build())
+                .booker(UserResponse.builder()
+                        .id(booking.getBookerId())
+                        .name(booking.getBookerName())
+                        .email(booking.getBookerEmail())
+                        .build())
+                .status(booking.getStatus())
+                .build();
+    }
+
     public static BookingShortResponse toBookingShortResponse(Booking booking) {
         return BookingShortResponse.builder()
                 .id(booking.getId())
@@ -32,12 +55,27 @@ public class BookingMapper {
                 .build();
     }
 
-    public static List<BookingResponse> toListOfBookingsResponse(List<Booking> bookings) {
+    public static BookingShortResponse toBookingShortResponse(BookingShortView booking) {
+        return BookingShortResponse.builder()
+                .id(booking.getId())
+                .start(FORMATTER.format(booking.getStartTime()))
+                .end(FORMATTER.format(booking.getEndTime()))
+                .booker(UserResponse.builder()
+                        .id(booking.getBookerId())
+                        .name(booking.getBookerName())
+                        .email(booking.getBookerEmail())
+                        .build())
+                .build();
+    }
+
+    public static List<BookingResponse> toListOfBookingsResponse(List<BookingRow> bookings) {
         if (bookings == null) {
             return new ArrayList<>();
         }
-        return bookings.stream()
-                .map(BookingMapper::toBookingResponse)
-                .toList();
+        List<BookingResponse> result = new ArrayList<>(bookings.size());
+        for (BookingRow booking : bookings) {
+            result.add(toBookingResponse(booking));
+        }
+        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+public interface BookingShortView {
+
+    Long getId();
+
+    Long getItemId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    Long getBookerId();
+
+    String getBookerName();
+
+    String getBookerEmail();
+
+    Boolean getLastBooking();
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.booking.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.item-lock", havingValue = "advisory")
+@RequiredArgsConstructor
+public class AdvisoryItemLockManager implements ItemLockManager {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockItem(long itemId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", resultSet -> {
+        }, itemId);
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.item-lock", havingValue = "none", matchIfMissing = true)
+public class NoItemLockManager implements ItemLockManager {
+
+    @Override
+    public void lockItem(long itemId) {
+    }
+}
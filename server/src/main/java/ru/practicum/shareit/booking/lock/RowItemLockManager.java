@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.ItemRepository;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.item-lock", havingValue = "row")
+@RequiredArgsConstructor
+public class RowItemLockManager implements ItemLockManager {
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public void lockItem(long itemId) {
+        itemRepository.findByIdForUpdate(itemId);
+    }
+}
@@ -0,0 +1,55 @@
+package ru.practicum.shareit.booking.lock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.item-lock", havingValue = "striped")
+public class StripedItemLockManager implements ItemLockManager {
+
+    private final Map<Long, Stripe> stripes = new ConcurrentHashMap<>();
+
+    @Override
+    public void lockItem(long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Блокировка вещи возможна только внутри транзакции");
+        }
+        lock(itemId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(itemId);
+            }
+        });
+    }
+
+    public void lock(long itemId) {
+        Stripe stripe = stripes.compute(itemId, (id, existing) -> {
+            Stripe acquired = existing == null ? new Stripe() : existing;
+            acquired.holders++;
+            return acquired;
+        });
+        stripe.lock.lock();
+    }
+
+    public void unlock(long itemId) {
+        stripes.computeIfPresent(itemId, (id, stripe) -> {
+            stripe.lock.unlock();
+            return --stripe.holders == 0 ? null : stripe;
+        });
+    }
+
+    int activeStripes() {
+        return stripes.size();
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private int holders;
+    }
+}
@@ -8,5 +8,17 @@ public class Constants {
     }
 
     public static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String DEFAULT_PAGE_SIZE = "20";
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int SEARCH_RESULTS_LIMIT = 100;
+    public static final int MAX_AVAILABILITY_ITEMS = 100;
+    public static final int MAX_BOOKING_BATCH_SIZE = 500;
+    public static final int ITEM_IMPORT_BATCH_SIZE = 500;
+    public static final int MAX_ITEM_IMPORT_ERRORS = 100;
+    public static final String ITEM_CACHE = "items";
+    public static final String USER_ENTITY_REGION = "user";
+    public static final String ITEM_ENTITY_REGION = "item";
+    public static final String BOOKING_OVERLAP_CONSTRAINT = "ex_bookings_item_period";
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package ru.practicum.shareit.item;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -12,4 +13,13 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             WHERE c.item = :item
             """)
     List<Comment> findByItemWithAuthor(Item item);
-}
\ No newline at end of file
+
+    @Query("""
+            SELECT c
+            FROM Comment AS c
+            JOIN FETCH c.author AS a
+            WHERE c.item.id
+            IN :itemIds
+            """)
+    List<Comment> findByItemIdInWithAuthor(Collection<Long> itemIds);
+}
@@ -2,14 +2,20 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.item.availabilityDto.ItemAvailabilityResponse;
 import ru.practicum.shareit.item.commentDto.CommentResponse;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
+import ru.practicum.shareit.item.importDto.ItemImportReport;
 import ru.practicum.shareit.item.itemDto.CreateItemRequest;
 import ru.practicum.shareit.item.itemDto.ItemInfoResponse;
 import ru.practicum.shareit.item.itemDto.ItemResponse;
 import ru.practicum.shareit.item.itemDto.UpdateItemRequest;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
@@ -29,6 +35,14 @@ public class ItemController {
         return itemService.createItem(request, userId);
     }
 
+    @PostMapping("/import")
+    public ItemImportReport importItems(@RequestHeader(USER_ID_HEADER) long userId,
+                                        @RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                        InputStream body) {
+        log.info("Получен запрос POST на импорт вещей пользователя с id = {} в формате {}", userId, format);
+        return itemService.importItems(userId, format, body);
+    }
+
     @GetMapping
     public List<ItemInfoResponse> getAllItemsByUserId(@RequestHeader(USER_ID_HEADER) long userId) {
         log.info("Поступил запрос GET на получение списка всех вещей пользователя");
@@ -46,6 +60,22 @@ public class ItemController {
         return itemService.searchItems(searchText);
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityResponse getItemAvailability(@PathVariable("itemId") long itemId,
+                                                        @RequestParam("from") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam("to") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Поступил запрос GET на получение занятости вещи с id = {} с {} по {}", itemId, from, to);
+        return itemService.getItemAvailability(itemId, from, to);
+    }
+
+    @GetMapping("/availability")
+    public List<ItemAvailabilityResponse> getItemsAvailability(@RequestParam("ids") List<Long> itemIds,
+                                                               @RequestParam("from") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+                                                               @RequestParam("to") @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Поступил запрос GET на получение занятости вещей {} с {} по {}", itemIds, from, to);
+        return itemService.getItemsAvailability(itemIds, from, to);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemResponse updateItem(@RequestHeader(USER_ID_HEADER) long userId,
                                    @PathVariable("itemId") long itemId,
@@ -1,12 +1,20 @@
 package ru.practicum.shareit.item;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findByOwnerId(long userId);
+    List<Item> findByOwnerIdOrderById(long userId);
+
+    @Query("SELECT i.id FROM Item AS i WHERE i.owner.id = :ownerId")
+    List<Long> findIdsByOwnerId(long ownerId);
 
     @Query("""
             SELECT i
@@ -15,8 +23,13 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             OR LOWER(i.description) LIKE LOWER(CONCAT('%', :searchText, '%')))
             AND (:searchText IS NOT NULL AND :searchText != '')
             AND (i.available = TRUE)
+            ORDER BY CASE
+                WHEN LOWER(i.name) LIKE LOWER(CONCAT(:searchText, '%')) THEN 0
+                WHEN LOWER(i.name) LIKE LOWER(CONCAT('%', :searchText, '%')) THEN 1
+                ELSE 2
+            END, i.id
             """)
-    List<Item> searchItems(String searchText);
+    List<Item> searchItems(String searchText, Limit limit);
 
     @Query("""
             SELECT i
@@ -25,7 +38,7 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             WHERE i.request.id
             IN :requestIds
             """)
-    List<Item> findAllItemsByRequestIdIn(Set<Long> requestIds);
+    List<Item> findAllItemsByRequestIdIn(Collection<Long> requestIds);
 
     @Query("""
             SELECT i
@@ -34,4 +47,17 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
             WHERE i.request.id = :requestId
             """)
     List<Item> findAllItemsByRequestId(long requestId);
+
+    List<Item> findAllByAvailableTrue();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item AS i WHERE i.id = :itemId")
+    Optional<Item> findByIdForUpdate(long itemId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Item AS i WHERE i.id IN :itemIds ORDER BY i.id")
+    List<Item> findAllByIdForUpdate(Collection<Long> itemIds);
+
+    @Query("SELECT i.id FROM Item AS i WHERE i.id IN :itemIds")
+    Set<Long> findIdsByIdIn(Collection<Long> itemIds);
 }
\ No newline at end of file
@@ -1,22 +1,32 @@
 package ru.practicum.shareit.item;
 
+import ru.practicum.shareit.item.availabilityDto.ItemAvailabilityResponse;
 import ru.practicum.shareit.item.commentDto.CommentResponse;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
+import ru.practicum.shareit.item.importDto.ItemImportReport;
 import ru.practicum.shareit.item.itemDto.CreateItemRequest;
 import ru.practicum.shareit.item.itemDto.ItemInfoResponse;
 import ru.practicum.shareit.item.itemDto.ItemResponse;
 import ru.practicum.shareit.item.itemDto.UpdateItemRequest;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
     ItemResponse createItem(CreateItemRequest request, long userId);
 
+    ItemImportReport importItems(long userId, String format, InputStream body);
+
     List<ItemInfoResponse> getAllItemsByUserId(long userId);
 
     ItemInfoResponse getItemById(long itemId);
 
     List<ItemResponse> searchItems(String text);
 
+    ItemAvailabilityResponse getItemAvailability(long itemId, LocalDateTime from, LocalDateTime to);
+
+    List<ItemAvailabilityResponse> getItemsAvailability(List<Long> itemIds, LocalDateTime from, LocalDateTime to);
+
     ItemResponse updateItem(long itemId, UpdateItemRequest request, long userId);
 
     void deleteItemById(long itemId);
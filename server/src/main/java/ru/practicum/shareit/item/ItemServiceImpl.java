@@ -2,25 +2,43 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.availability.BookedPeriod;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingShortResponse;
+import ru.practicum.shareit.booking.dto.BookingShortView;
 import ru.practicum.shareit.exception.ForbiddenException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.exception.UnavailableBookingException;
+import ru.practicum.shareit.item.availabilityDto.AvailabilityMapper;
+import ru.practicum.shareit.item.availabilityDto.ItemAvailabilityResponse;
 import ru.practicum.shareit.item.commentDto.CommentMapper;
 import ru.practicum.shareit.item.commentDto.CommentResponse;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
+import ru.practicum.shareit.item.importDto.ItemImportReport;
+import ru.practicum.shareit.item.importing.ItemImportFormat;
+import ru.practicum.shareit.item.importing.ItemImporter;
 import ru.practicum.shareit.item.itemDto.*;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.util.LongIndex;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
+import static ru.practicum.shareit.constants.Constants.ITEM_CACHE;
+import static ru.practicum.shareit.constants.Constants.MAX_AVAILABILITY_ITEMS;
+import static ru.practicum.shareit.constants.Constants.SEARCH_RESULTS_LIMIT;
 
 @Service
 @Transactional(readOnly = true)
@@ -33,6 +51,9 @@ public class ItemServiceImpl implements ItemService {
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final BookingAvailability bookingAvailability;
+    private final ItemImporter itemImporter;
 
     @Override
     @Transactional
@@ -44,11 +65,24 @@ public class ItemServiceImpl implements ItemService {
         if (requestId != null) {
             ItemRequest itemRequest = itemRequestRepository.findById(requestId).orElseThrow(() ->
                     new NotFoundException(String.format("Запроса вещи с id = %d нет в базе", requestId)));
-            Item item = ItemMapper.toItem(request, itemRequest, user);
-            return ItemMapper.toItemResponse(itemRepository.save(item));
+            Item item = itemRepository.save(ItemMapper.toItem(request, itemRequest, user));
+            itemSearchIndex.index(item);
+            return ItemMapper.toItemResponse(item);
         }
-        Item item = ItemMapper.toItem(request, null, user);
-        return ItemMapper.toItemResponse(itemRepository.save(item));
+        Item item = itemRepository.save(ItemMapper.toItem(request, null, user));
+        itemSearchIndex.index(item);
+        return ItemMapper.toItemResponse(item);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ItemImportReport importItems(long userId, String format, InputStream body) {
+        ItemImportFormat importFormat = ItemImportFormat.from(format).orElseThrow(() ->
+                new UnavailableBookingException("Неподдерживаемый формат импорта вещей: " + format));
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format("Пользователя с id = %d нет в базе", userId));
+        }
+        return itemImporter.importItems(userId, importFormat, body);
     }
 
     @Override
@@ -56,22 +90,48 @@ public class ItemServiceImpl implements ItemService {
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(String.format(
                 "Пользователя с id = %d нет в базе", userId)));
 
-        Map<Long, Item> itemMap = itemRepository.findByOwnerId(user.getId())
-                .stream()
-                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<Item> items = itemRepository.findByOwnerIdOrderById(user.getId());
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        Map<Item, List<Booking>> bookingMap = bookingRepository.findByItemIdIn(itemMap.keySet())
-                .stream()
-                .collect(Collectors.groupingBy(Booking::getItem));
+        long[] itemIds = new long[items.size()];
+        List<Long> itemIdList = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            itemIds[i] = items.get(i).getId();
+            itemIdList.add(itemIds[i]);
+        }
+        LongIndex itemIndex = LongIndex.of(itemIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        BookingShortResponse[] lastBookings = new BookingShortResponse[items.size()];
+        BookingShortResponse[] nextBookings = new BookingShortResponse[items.size()];
+        for (BookingShortView booking : bookingRepository.findLastAndNextBookingsByItemIdIn(itemIdList, now)) {
+            int position = itemIndex.positionOf(booking.getItemId());
+            if (booking.getLastBooking()) {
+                lastBookings[position] = BookingMapper.toBookingShortResponse(booking);
+            } else {
+                nextBookings[position] = BookingMapper.toBookingShortResponse(booking);
+            }
+        }
 
-        return itemMap.values()
-                .stream()
-                .map(item -> makeItemInfoResponse(item, bookingMap
-                        .getOrDefault(item, Collections.emptyList())))
-                .collect(Collectors.toList());
+        List<List<Comment>> comments = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            comments.add(new ArrayList<>());
+        }
+        for (Comment comment : commentRepository.findByItemIdInWithAuthor(itemIdList)) {
+            comments.get(itemIndex.positionOf(comment.getItem().getId())).add(comment);
+        }
+
+        List<ItemInfoResponse> result = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            result.add(ItemMapper.toItemInfoResponse(items.get(i), lastBookings[i], nextBookings[i], comments.get(i)));
+        }
+        return result;
     }
 
     @Override
+    @Cacheable(cacheNames = ITEM_CACHE, key = "#itemId")
     public ItemInfoResponse getItemById(long itemId) {
         Item item = itemRepository.findById(itemId).orElseThrow(() -> new NotFoundException(String.format("Вещи с id " +
                 "= %d нет в базе", itemId)));
@@ -81,12 +141,45 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public List<ItemResponse> searchItems(String searchText) {
-        List<Item> listOfItems = itemRepository.searchItems(searchText);
-        return ItemMapper.toListOfItemsResponse(listOfItems);
+        if (searchText.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return itemSearchIndex.search(searchText, SEARCH_RESULTS_LIMIT);
+    }
+
+    @Override
+    public ItemAvailabilityResponse getItemAvailability(long itemId, LocalDateTime from, LocalDateTime to) {
+        return getItemsAvailability(List.of(itemId), from, to).getFirst();
+    }
+
+    @Override
+    public List<ItemAvailabilityResponse> getItemsAvailability(List<Long> itemIds, LocalDateTime from,
+                                                               LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new UnavailableBookingException("Начало периода должно быть раньше его окончания");
+        }
+        Set<Long> uniqueIds = new LinkedHashSet<>(itemIds);
+        if (uniqueIds.size() > MAX_AVAILABILITY_ITEMS) {
+            throw new UnavailableBookingException(String.format("За один запрос можно получить занятость не более " +
+                    "%d вещей", MAX_AVAILABILITY_ITEMS));
+        }
+        Set<Long> existingIds = itemRepository.findIdsByIdIn(uniqueIds);
+        for (Long itemId : uniqueIds) {
+            if (!existingIds.contains(itemId)) {
+                throw new NotFoundException(String.format("Вещи с id = %d нет в базе", itemId));
+            }
+        }
+
+        Map<Long, List<BookedPeriod>> bookedPeriods = bookingAvailability.findBookedPeriods(uniqueIds, from, to);
+        return uniqueIds.stream()
+                .map(itemId -> AvailabilityMapper.toItemAvailabilityResponse(itemId, from, to,
+                        bookedPeriods.getOrDefault(itemId, Collections.emptyList())))
+                .collect(Collectors.toList());
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ITEM_CACHE, key = "#itemId")
     public ItemResponse updateItem(long itemId, UpdateItemRequest request, long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(String.format(
                 "Пользователя с id = %d нет в базе", userId)));
@@ -106,17 +199,23 @@ public class ItemServiceImpl implements ItemService {
         if (request.hasAvailable()) {
             oldItem.setAvailable(request.getAvailable());
         }
-        return ItemMapper.toItemResponse(itemRepository.save(oldItem));
+        Item item = itemRepository.save(oldItem);
+        itemSearchIndex.index(item);
+        return ItemMapper.toItemResponse(item);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ITEM_CACHE, key = "#itemId")
     public void deleteItemById(long itemId) {
         itemRepository.deleteById(itemId);
+        itemSearchIndex.remove(itemId);
+        bookingAvailability.removeItem(itemId);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ITEM_CACHE, key = "#itemId")
     public CommentResponse addComment(long itemId, CreateCommentRequest request, long userId) {
         User author = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(String.format(
                 "Пользователя с id = %d нет в базе", userId)));
@@ -132,18 +231,4 @@ public class ItemServiceImpl implements ItemService {
                     " либо бронирование ещё не завершено", author.getId(), item.getId()));
         }
     }
-
-    private ItemInfoResponse makeItemInfoResponse(Item item, List<Booking> bookings) {
-
-        Booking lastBookingDate = bookings.stream()
-                .filter(b -> b.getStart().isBefore(LocalDateTime.now()))
-                .max(Comparator.comparing(Booking::getStart)).orElse(null);
-
-        Booking nextBookingDate = bookings.stream()
-                .filter(b -> b.getStart().isAfter(LocalDateTime.now()))
-                .min(Comparator.comparing(Booking::getStart)).orElse(null);
-
-        List<Comment> comments = commentRepository.findByItemWithAuthor(item);
-        return ItemMapper.toItemInfoResponse(item, lastBookingDate, nextBookingDate, comments);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.item.availabilityDto;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.booking.availability.BookedPeriod;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import static ru.practicum.shareit.constants.Constants.FORMATTER;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AvailabilityMapper {
+
+    public static ItemAvailabilityResponse toItemAvailabilityResponse(long itemId, LocalDateTime from,
+                                                                      LocalDateTime to, List<BookedPeriod> booked) {
+        List<AvailabilityPeriod> busy = new ArrayList<>();
+        List<AvailabilityPeriod> free = new ArrayList<>();
+        LocalDateTime freeFrom = from;
+
+        for (int i = 0; i < booked.size(); ) {
+            LocalDateTime busyFrom = max(booked.get(i).getStart(), from);
+            LocalDateTime busyTo = booked.get(i).getEnd();
+            for (i++; i < booked.size() && !booked.get(i).getStart().isAfter(busyTo); i++) {
+                busyTo = max(busyTo, booked.get(i).getEnd());
+            }
+            busyTo = min(busyTo, to);
+
+            if (freeFrom.isBefore(busyFrom)) {
+                free.add(toAvailabilityPeriod(freeFrom, busyFrom));
+            }
+            busy.add(toAvailabilityPeriod(busyFrom, busyTo));
+            freeFrom = busyTo;
+        }
+        if (freeFrom.isBefore(to)) {
+            free.add(toAvailabilityPeriod(freeFrom, to));
+        }
+
+        return ItemAvailabilityResponse.builder()
+                .itemId(itemId)
+                .from(from.format(FORMATTER))
+                .to(to.format(FORMATTER))
+                .busy(busy)
+                .free(free)
+                .build();
+    }
+
+    private static AvailabilityPeriod toAvailabilityPeriod(LocalDateTime start, LocalDateTime end) {
+        return AvailabilityPeriod.builder()
+                .start(start.format(FORMATTER))
+                .end(end.format(FORMATTER))
+                .build();
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDateTime min(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.availabilityDto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AvailabilityPeriod {
+    String start;
+    String end;
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.availabilityDto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemAvailabilityResponse {
+    Long itemId;
+    String from;
+    String to;
+    List<AvailabilityPeriod> busy;
+    List<AvailabilityPeriod> free;
+}
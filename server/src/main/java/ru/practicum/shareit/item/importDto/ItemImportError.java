@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.importDto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemImportError {
+    Long line;
+    String error;
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.importDto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemImportReport {
+    Integer imported;
+    Integer failed;
+    List<ItemImportError> errors;
+    Boolean errorsTruncated;
+}
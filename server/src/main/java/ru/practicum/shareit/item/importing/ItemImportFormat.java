@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.importing;
+
+import java.util.Optional;
+
+public enum ItemImportFormat {
+    NDJSON,
+    CSV;
+
+    public static Optional<ItemImportFormat> from(String format) {
+        for (ItemImportFormat value : ItemImportFormat.values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,222 @@
+package ru.practicum.shareit.item.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ru.practicum.shareit.exception.UnavailableBookingException;
+import ru.practicum.shareit.item.itemDto.CreateItemRequest;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ItemImportReader implements Closeable {
+
+    private static final String NAME_COLUMN = "name";
+    private static final String DESCRIPTION_COLUMN = "description";
+    private static final String AVAILABLE_COLUMN = "available";
+    private static final String REQUEST_ID_COLUMN = "requestId";
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 512;
+    private static final int MAX_LINE_LENGTH = 4096;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder lineBuffer = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean lineTooLong;
+    private final ItemImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> csvColumns;
+    private long line;
+
+    public ItemImportReader(InputStream body, ItemImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    public ItemImportRow next() throws IOException {
+        String text;
+        while ((text = readLine()) != null) {
+            line++;
+            if (lineTooLong) {
+                if (format == ItemImportFormat.CSV && csvColumns == null) {
+                    throw new UnavailableBookingException(String.format("Заголовок CSV длиннее %d символов",
+                            MAX_LINE_LENGTH));
+                }
+                return new ItemImportRow(line, null, String.format("Строка длиннее %d символов", MAX_LINE_LENGTH));
+            }
+            if (line == 1 && text.startsWith("\uFEFF")) {
+                text = text.substring(1);
+            }
+            if (text.isBlank()) {
+                continue;
+            }
+            if (format == ItemImportFormat.NDJSON) {
+                return parseJson(text);
+            }
+            if (csvColumns == null) {
+                csvColumns = parseCsvHeader(text);
+                continue;
+            }
+            return parseCsv(text);
+        }
+        return null;
+    }
+
+    private String readLine() throws IOException {
+        lineBuffer.setLength(0);
+        lineTooLong = false;
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, BUFFER_SIZE);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    break;
+                }
+            }
+            read = true;
+            char c = buffer[position++];
+            if (c == '\n') {
+                break;
+            }
+            if (lineBuffer.length() <= MAX_LINE_LENGTH) {
+                lineBuffer.append(c);
+            } else {
+                lineTooLong = true;
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        if (!lineBuffer.isEmpty() && lineBuffer.charAt(lineBuffer.length() - 1) == '\r') {
+            lineBuffer.setLength(lineBuffer.length() - 1);
+        }
+        if (lineBuffer.length() > MAX_LINE_LENGTH) {
+            lineTooLong = true;
+        }
+        return lineTooLong ? "" : lineBuffer.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ItemImportRow parseJson(String text) {
+        try {
+            CreateItemRequest request = objectMapper.readValue(text, CreateItemRequest.class);
+            return new ItemImportRow(line, request, validate(request));
+        } catch (JsonProcessingException e) {
+            return new ItemImportRow(line, null, "Строка не является корректным JSON-описанием вещи");
+        }
+    }
+
+    private ItemImportRow parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return new ItemImportRow(line, null, "Незакрытые кавычки в строке CSV");
+        }
+        String available = field(fields, AVAILABLE_COLUMN);
+        if (!available.isBlank() && !available.equalsIgnoreCase("true") && !available.equalsIgnoreCase("false")) {
+            return new ItemImportRow(line, null, "Поле available должно принимать значение true или false");
+        }
+        String requestId = field(fields, REQUEST_ID_COLUMN);
+        CreateItemRequest request;
+        try {
+            request = CreateItemRequest.builder()
+                    .name(field(fields, NAME_COLUMN))
+                    .description(field(fields, DESCRIPTION_COLUMN))
+                    .available(available.isBlank() ? null : Boolean.valueOf(available))
+                    .requestId(requestId.isBlank() ? null : Long.valueOf(requestId.trim()))
+                    .build();
+        } catch (NumberFormatException e) {
+            return new ItemImportRow(line, null, "Поле requestId должно быть числом");
+        }
+        return new ItemImportRow(line, request, validate(request));
+    }
+
+    private Map<String, Integer> parseCsvHeader(String text) {
+        List<String> names = splitCsv(text);
+        Map<String, Integer> columns = new HashMap<>();
+        if (names != null) {
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim(), i);
+            }
+        }
+        for (String required : List.of(NAME_COLUMN, DESCRIPTION_COLUMN, AVAILABLE_COLUMN)) {
+            if (!columns.containsKey(required)) {
+                throw new UnavailableBookingException(String.format("В заголовке CSV нет колонки %s", required));
+            }
+        }
+        return columns;
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = csvColumns.get(column);
+        if (index == null || index >= fields.size()) {
+            return "";
+        }
+        return fields.get(index);
+    }
+
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String validate(CreateItemRequest request) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "Название вещи не может быть пустым";
+        }
+        if (request.getName().length() > MAX_NAME_LENGTH) {
+            return String.format("Название вещи не может быть длиннее %d символов", MAX_NAME_LENGTH);
+        }
+        if (request.getDescription() == null || request.getDescription().isBlank()) {
+            return "Описание вещи не может быть пустым";
+        }
+        if (request.getDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            return String.format("Описание вещи не может быть длиннее %d символов", MAX_DESCRIPTION_LENGTH);
+        }
+        if (request.getAvailable() == null) {
+            return "Не указана доступность вещи для аренды";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.importing;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.item.itemDto.CreateItemRequest;
+
+@Data
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemImportRow {
+    long line;
+    CreateItemRequest request;
+    String error;
+}
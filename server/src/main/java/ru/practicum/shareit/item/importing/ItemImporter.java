@@ -0,0 +1,133 @@
+package ru.practicum.shareit.item.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.importDto.ItemImportError;
+import ru.practicum.shareit.item.importDto.ItemImportReport;
+import ru.practicum.shareit.item.itemDto.ItemMapper;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import static ru.practicum.shareit.constants.Constants.ITEM_IMPORT_BATCH_SIZE;
+import static ru.practicum.shareit.constants.Constants.MAX_ITEM_IMPORT_ERRORS;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ItemImporter {
+
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchIndex itemSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ItemImportReport importItems(long ownerId, ItemImportFormat format, InputStream body) {
+        List<ItemImportError> errors = new ArrayList<>(MAX_ITEM_IMPORT_ERRORS);
+        List<ItemImportRow> batch = new ArrayList<>(ITEM_IMPORT_BATCH_SIZE);
+        int imported = 0;
+        int failed = 0;
+
+        try (ItemImportReader reader = new ItemImportReader(body, format, objectMapper)) {
+            for (ItemImportRow row = reader.next(); row != null; row = reader.next()) {
+                if (row.getError() != null) {
+                    failed += addError(errors, new ItemImportError(row.getLine(), row.getError()));
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == ITEM_IMPORT_BATCH_SIZE) {
+                    imported += saveBatch(ownerId, batch);
+                    failed += addErrors(errors, batch);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        imported += saveBatch(ownerId, batch);
+        failed += addErrors(errors, batch);
+
+        errors.sort(Comparator.comparing(ItemImportError::getLine));
+        log.info("Импортировано {} вещей пользователя с id = {}, строк с ошибками: {}", imported, ownerId, failed);
+        return ItemImportReport.builder()
+                .imported(imported)
+                .failed(failed)
+                .errors(errors)
+                .errorsTruncated(failed > errors.size())
+                .build();
+    }
+
+    private int saveBatch(long ownerId, List<ItemImportRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            Integer saved = transactionTemplate.execute(status -> saveItems(ownerId, rows));
+            return saved == null ? 0 : saved;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Не удалось сохранить пакет из {} вещей пользователя с id = {}", rows.size(), ownerId, e);
+            rows.forEach(row -> row.setError("Не удалось сохранить вещь"));
+            return 0;
+        }
+    }
+
+    private static int addErrors(List<ItemImportError> errors, List<ItemImportRow> rows) {
+        int failed = 0;
+        for (ItemImportRow row : rows) {
+            if (row.getError() != null) {
+                failed += addError(errors, new ItemImportError(row.getLine(), row.getError()));
+            }
+        }
+        return failed;
+    }
+
+    private static int addError(List<ItemImportError> errors, ItemImportError error) {
+        if (errors.size() < MAX_ITEM_IMPORT_ERRORS) {
+            errors.add(error);
+        }
+        return 1;
+    }
+
+    private int saveItems(long ownerId, List<ItemImportRow> rows) {
+        Set<Long> requestIds = rows.stream()
+                .map(row -> row.getRequest().getRequestId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ItemRequest> itemRequests = requestIds.isEmpty() ? Map.of() : itemRequestRepository
+                .findAllById(requestIds)
+                .stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        User owner = userRepository.getReferenceById(ownerId);
+
+        List<Item> items = new ArrayList<>(rows.size());
+        for (ItemImportRow row : rows) {
+            Long requestId = row.getRequest().getRequestId();
+            ItemRequest itemRequest = requestId == null ? null : itemRequests.get(requestId);
+            if (requestId != null && itemRequest == null) {
+                row.setError(String.format("Запроса вещи с id = %d нет в базе", requestId));
+                continue;
+            }
+            items.add(ItemMapper.toItem(row.getRequest(), itemRequest, owner));
+        }
+
+        itemRepository.saveAll(items);
+        itemRepository.flush();
+        itemSearchIndex.indexAll(items);
+        return items.size();
+    }
+}
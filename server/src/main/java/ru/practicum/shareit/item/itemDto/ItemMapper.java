@@ -2,8 +2,6 @@ package ru.practicum.shareit.item.itemDto;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
-import ru.practicum.shareit.booking.Booking;
-import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.dto.BookingShortResponse;
 import ru.practicum.shareit.item.Comment;
 import ru.practicum.shareit.item.Item;
@@ -35,19 +33,8 @@ public class ItemMapper {
                 .toList();
     }
 
-    public static ItemInfoResponse toItemInfoResponse(Item item, Booking lastBookingDate, Booking nextBookingDate,
-                                                      List<Comment> comments) {
-        BookingShortResponse lastBooking = null;
-        BookingShortResponse nextBooking = null;
-
-        if (lastBookingDate != null) {
-            lastBooking = BookingMapper.toBookingShortResponse(lastBookingDate);
-        }
-
-        if (nextBookingDate != null) {
-            nextBooking = BookingMapper.toBookingShortResponse(nextBookingDate);
-        }
-
+    public static ItemInfoResponse toItemInfoResponse(Item item, BookingShortResponse lastBooking,
+                                                      BookingShortResponse nextBooking, List<Comment> comments) {
         return ItemInfoResponse.builder()
                 .id(item.getId())
                 .name(item.getName())
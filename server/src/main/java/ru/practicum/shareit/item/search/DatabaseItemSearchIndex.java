@@ -0,0 +1,36 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.itemDto.ItemMapper;
+import ru.practicum.shareit.item.itemDto.ItemResponse;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "shareit.search.backend", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseItemSearchIndex implements ItemSearchIndex {
+
+    private final ItemRepository itemRepository;
+
+    @Override
+    public List<ItemResponse> search(String searchText, int limit) {
+        return ItemMapper.toListOfItemsResponse(itemRepository.searchItems(searchText, Limit.of(limit)));
+    }
+
+    @Override
+    public void index(Item item) {
+    }
+
+    @Override
+    public void indexAll(List<Item> items) {
+    }
+
+    @Override
+    public void remove(long itemId) {
+    }
+}
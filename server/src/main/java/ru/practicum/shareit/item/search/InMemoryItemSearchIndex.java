@@ -0,0 +1,175 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.itemDto.ItemMapper;
+import ru.practicum.shareit.item.itemDto.ItemResponse;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import static ru.practicum.shareit.util.TransactionCallbacks.afterCommit;
+
+@Component
+@ConditionalOnProperty(name = "shareit.search.backend", havingValue = "memory")
+@Slf4j
+@RequiredArgsConstructor
+public class InMemoryItemSearchIndex implements ItemSearchIndex {
+
+    private final ItemRepository itemRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings postings = new Postings();
+    private volatile boolean ready;
+    private List<Consumer<Postings>> pending = new ArrayList<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (pending == null) {
+                pending = new ArrayList<>();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Item> items = itemRepository.findAllByAvailableTrue();
+        Postings rebuilt = new Postings();
+        items.forEach(item -> rebuilt.put(ItemMapper.toItemResponse(item)));
+        lock.writeLock().lock();
+        try {
+            pending.forEach(change -> change.accept(rebuilt));
+            log.info("Индекс поиска вещей построен, проиндексировано вещей: {}, изменений во время построения: {}",
+                    items.size(), pending.size());
+            pending = null;
+            postings = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<ItemResponse> search(String searchText, int limit) {
+        Set<String> queryTokens = tokenize(searchText);
+        if (queryTokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (!ready) {
+            return ItemMapper.toListOfItemsResponse(itemRepository.searchItems(searchText, Limit.of(limit)));
+        }
+        String query = searchText.toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String token : queryTokens) {
+                Set<Long> matches = new HashSet<>();
+                postings.tokens.subMap(token, true, token + Character.MAX_VALUE, false)
+                        .values()
+                        .forEach(matches::addAll);
+                if (candidates == null) {
+                    candidates = matches;
+                } else {
+                    candidates.retainAll(matches);
+                }
+                if (candidates.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+            return candidates.stream()
+                    .map(postings.documents::get)
+                    .sorted(Comparator.<ItemResponse>comparingInt(item -> rank(item, query))
+                            .thenComparing(ItemResponse::getId))
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Item item) {
+        indexAll(List.of(item));
+    }
+
+    @Override
+    public void indexAll(List<Item> items) {
+        List<ItemResponse> documents = ItemMapper.toListOfItemsResponse(items);
+        afterCommit(() -> apply(current -> documents.forEach(document -> {
+            current.delete(document.getId());
+            if (Boolean.TRUE.equals(document.getAvailable())) {
+                current.put(document);
+            }
+        })));
+    }
+
+    @Override
+    public void remove(long itemId) {
+        afterCommit(() -> apply(current -> current.delete(itemId)));
+    }
+
+    private void apply(Consumer<Postings> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(postings);
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int rank(ItemResponse item, String query) {
+        String name = item.getName().toLowerCase(Locale.ROOT);
+        if (name.startsWith(query)) {
+            return 0;
+        }
+        return name.contains(query) ? 1 : 2;
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Postings {
+        private final Map<Long, ItemResponse> documents = new HashMap<>();
+        private final NavigableMap<String, Set<Long>> tokens = new TreeMap<>();
+
+        private void put(ItemResponse document) {
+            documents.put(document.getId(), document);
+            for (String token : tokenize(document.getName() + " " + document.getDescription())) {
+                tokens.computeIfAbsent(token, key -> new HashSet<>()).add(document.getId());
+            }
+        }
+
+        private void delete(long itemId) {
+            ItemResponse document = documents.remove(itemId);
+            if (document == null) {
+                return;
+            }
+            for (String token : tokenize(document.getName() + " " + document.getDescription())) {
+                Set<Long> itemIds = tokens.get(token);
+                if (itemIds != null) {
+                    itemIds.remove(itemId);
+                    if (itemIds.isEmpty()) {
+                        tokens.remove(token);
+                    }
+                }
+            }
+        }
+    }
+}
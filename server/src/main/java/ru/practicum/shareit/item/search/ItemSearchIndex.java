@@ -0,0 +1,16 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.itemDto.ItemResponse;
+import java.util.List;
+
+public interface ItemSearchIndex {
+
+    List<ItemResponse> search(String searchText, int limit);
+
+    void index(Item item);
+
+    void indexAll(List<Item> items);
+
+    void remove(long itemId);
+}
@@ -3,11 +3,15 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithItemInfo;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
 import java.util.List;
+import static ru.practicum.shareit.constants.Constants.DEFAULT_PAGE_SIZE;
+import static ru.practicum.shareit.constants.Constants.NEXT_CURSOR_HEADER;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @RestController
@@ -33,9 +37,16 @@ public class ItemRequestController {
     }
 
     @GetMapping("/all")
-    public List<ItemRequestDto> getAllItemRequests(@RequestHeader(USER_ID_HEADER) long userId) {
+    public ResponseEntity<List<ItemRequestDto>> getAllItemRequests(@RequestHeader(USER_ID_HEADER) long userId,
+                                                                   @RequestParam(name = "cursor", required = false) String cursor,
+                                                                   @RequestParam(name = "size", defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.info("Поступил запрос GET на получение списка всех существующих запросов вещей");
-        return itemRequestService.getAllItemRequests(userId);
+        ItemRequestPage page = itemRequestService.getAllItemRequests(userId, cursor, size);
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return responseBuilder.body(page.getRequests());
     }
 
     @GetMapping("/{requestId}")
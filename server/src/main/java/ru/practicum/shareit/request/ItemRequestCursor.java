@@ -0,0 +1,48 @@
+package ru.practicum.shareit.request;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import ru.practicum.shareit.exception.UnavailableBookingException;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ItemRequestCursor {
+
+    private static final String SEPARATOR = "_";
+    private static final ItemRequestCursor FIRST_PAGE = new ItemRequestCursor(LocalDateTime.of(9999, 12, 31, 23, 59,
+            59), Long.MAX_VALUE);
+
+    LocalDateTime created;
+    long id;
+
+    public static ItemRequestCursor after(ItemRequestRow itemRequest) {
+        return new ItemRequestCursor(itemRequest.getCreated(), itemRequest.getId());
+    }
+
+    public static ItemRequestCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new ItemRequestCursor(LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new UnavailableBookingException("Некорректный курсор постраничной выдачи запросов вещей");
+        }
+    }
+
+    public String encode() {
+        String raw = created + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
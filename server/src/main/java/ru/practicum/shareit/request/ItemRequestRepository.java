@@ -1,8 +1,11 @@
 package ru.practicum.shareit.request;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
@@ -11,7 +14,18 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long>
             FROM ItemRequest AS ir
             JOIN FETCH ir.requester AS r
             WHERE ir.requester.id = :userId
-            ORDER BY ir.created DESC
+            ORDER BY ir.created DESC, ir.id DESC
             """)
     List<ItemRequest> getAllItemRequestsByUserIdOrderByStartDesc(long userId);
+
+    @Query("""
+            SELECT new ru.practicum.shareit.request.dto.ItemRequestRow(ir.id, ir.description, ir.created, r.id, r.name)
+            FROM ItemRequest AS ir
+            JOIN ir.requester AS r
+            WHERE r.id <> :userId
+            AND (ir.created, ir.id) < (:cursorCreated, :cursorId)
+            ORDER BY ir.created DESC, ir.id DESC
+            """)
+    List<ItemRequestRow> findOtherUsersRequestsOrderByCreatedDesc(long userId, LocalDateTime cursorCreated, long cursorId,
+                                                               Limit limit);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithItemInfo;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
 
 import java.util.List;
 
@@ -11,7 +12,7 @@ public interface ItemRequestService {
 
     List<ItemRequestDtoWithItemInfo> getAllItemRequestsByUserId(long userId);
 
-    List<ItemRequestDto> getAllItemRequests(long userId);
+    ItemRequestPage getAllItemRequests(long userId, String cursor, int size);
 
     ItemRequestDtoWithItemInfo getItemRequestById(long requestId);
 }
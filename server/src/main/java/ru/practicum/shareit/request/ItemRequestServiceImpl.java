@@ -2,23 +2,25 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.UnavailableBookingException;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithItemInfo;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
-import java.util.Collections;
+import ru.practicum.shareit.util.LongIndex;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import static ru.practicum.shareit.constants.Constants.MAX_PAGE_SIZE;
 
 @Service
 @Transactional(readOnly = true)
@@ -44,28 +46,54 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         User user = userRepository.findById(userId).orElseThrow(() ->
                 new NotFoundException(String.format("Пользователя с id = %d нет в базе", userId)));
 
-        Map<Long, ItemRequest> itemRequestMap = itemRequestRepository.getAllItemRequestsByUserIdOrderByStartDesc(userId)
-                .stream()
-                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        List<ItemRequest> itemRequests = itemRequestRepository.getAllItemRequestsByUserIdOrderByStartDesc(userId);
+        if (itemRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        Map<ItemRequest, List<Item>> itemMap = itemRepository.findAllItemsByRequestIdIn(itemRequestMap.keySet())
-                .stream()
-                .collect(Collectors.groupingBy(Item::getRequest));
+        long[] requestIds = new long[itemRequests.size()];
+        List<Long> requestIdList = new ArrayList<>(itemRequests.size());
+        for (int i = 0; i < itemRequests.size(); i++) {
+            requestIds[i] = itemRequests.get(i).getId();
+            requestIdList.add(requestIds[i]);
+        }
+        LongIndex requestIndex = LongIndex.of(requestIds);
 
-        return itemRequestMap.values()
-                .stream()
-                .map(itemRequest -> ItemRequestMapper.toItemRequestDtoWithItemInfo(itemRequest,
-                        itemMap.getOrDefault(itemRequest, Collections.emptyList())))
-                .toList();
+        List<List<Item>> items = new ArrayList<>(itemRequests.size());
+        for (int i = 0; i < itemRequests.size(); i++) {
+            items.add(new ArrayList<>());
+        }
+        for (Item item : itemRepository.findAllItemsByRequestIdIn(requestIdList)) {
+            items.get(requestIndex.positionOf(item.getRequest().getId())).add(item);
+        }
+
+        List<ItemRequestDtoWithItemInfo> result = new ArrayList<>(itemRequests.size());
+        for (int i = 0; i < itemRequests.size(); i++) {
+            result.add(ItemRequestMapper.toItemRequestDtoWithItemInfo(itemRequests.get(i), items.get(i)));
+        }
+        return result;
     }
 
     @Override
-    public List<ItemRequestDto> getAllItemRequests(long userId) {
-        List<ItemRequest> itemRequestList = itemRequestRepository.findAll(Sort.by(Sort.Direction.DESC, "created"));
-        return itemRequestList.stream()
-                .filter(ItemRequest -> ItemRequest.getRequester().getId() != userId)
-                .map(ItemRequestMapper::toItemRequestDto)
-                .toList();
+    public ItemRequestPage getAllItemRequests(long userId, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new UnavailableBookingException(String.format("Размер страницы должен быть от 1 до %d",
+                    MAX_PAGE_SIZE));
+        }
+        ItemRequestCursor position = ItemRequestCursor.decode(cursor);
+        List<ItemRequestRow> itemRequests = itemRequestRepository.findOtherUsersRequestsOrderByCreatedDesc(userId,
+                position.getCreated(), position.getId(), Limit.of(size + 1));
+
+        if (itemRequests.size() <= size) {
+            return ItemRequestPage.builder()
+                    .requests(ItemRequestMapper.toListOfItemRequestDto(itemRequests))
+                    .build();
+        }
+        List<ItemRequestRow> page = itemRequests.subList(0, size);
+        return ItemRequestPage.builder()
+                .requests(ItemRequestMapper.toListOfItemRequestDto(page))
+                .nextCursor(ItemRequestCursor.after(page.getLast()).encode())
+                .build();
     }
 
     @Override
@@ -73,11 +101,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         ItemRequest itemRequest = itemRequestRepository.findById(requestId).orElseThrow(() ->
                 new NotFoundException(String.format("Запроса вещи с id = %d нет в базе", requestId)));
 
-        Map<ItemRequest, List<Item>> itemMap = itemRepository.findAllItemsByRequestId(itemRequest.getId())
-                .stream()
-                .collect(Collectors.groupingBy(Item::getRequest));
-
-        return ItemRequestMapper.toItemRequestDtoWithItemInfo(itemRequest, itemMap.getOrDefault(itemRequest,
-                Collections.emptyList()));
+        return ItemRequestMapper.toItemRequestDtoWithItemInfo(itemRequest,
+                itemRepository.findAllItemsByRequestId(itemRequest.getId()));
     }
 }
\ No newline at end of file
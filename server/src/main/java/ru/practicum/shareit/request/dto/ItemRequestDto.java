@@ -2,7 +2,6 @@ package ru.practicum.shareit.request.dto;
 
 import lombok.*;
 import lombok.experimental.FieldDefaults;
-import ru.practicum.shareit.user.User;
 
 @Data
 @NoArgsConstructor
@@ -13,6 +12,6 @@ public class ItemRequestDto {
 
     Long id;
     String description;
-    User requester;
+    RequesterDto requester;
     String created;
 }
\ No newline at end of file
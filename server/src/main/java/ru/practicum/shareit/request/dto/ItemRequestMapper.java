@@ -7,6 +7,7 @@ import ru.practicum.shareit.item.itemDto.ItemMapper;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
 
@@ -17,11 +18,34 @@ public class ItemRequestMapper {
         return ItemRequestDto.builder()
                 .id(request.getId())
                 .description(request.getDescription())
-                .requester(request.getRequester())
+                .requester(RequesterDto.builder()
+                        .id(request.getRequester().getId())
+                        .name(request.getRequester().getName())
+                        .build())
                 .created(FORMATTER.format(request.getCreated()))
                 .build();
     }
 
+    public static ItemRequestDto toItemRequestDto(ItemRequestRow request) {
+        return ItemRequestDto.builder()
+                .id(request.getId())
+                .description(request.getDescription())
+                .requester(RequesterDto.builder()
+                        .id(request.getRequesterId())
+                        .name(request.getRequesterName())
+                        .build())
+                .created(FORMATTER.format(request.getCreated()))
+                .build();
+    }
+
+    public static List<ItemRequestDto> toListOfItemRequestDto(List<ItemRequestRow> requests) {
+        List<ItemRequestDto> result = new ArrayList<>(requests.size());
+        for (ItemRequestRow request : requests) {
+            result.add(toItemRequestDto(request));
+        }
+        return result;
+    }
+
     public static ItemRequestDtoWithItemInfo toItemRequestDtoWithItemInfo(ItemRequest request, List<Item> items) {
         return ItemRequestDtoWithItemInfo.builder()
                 .id(request.getId())
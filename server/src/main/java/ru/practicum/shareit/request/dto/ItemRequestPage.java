@@ -0,0 +1,16 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemRequestPage {
+
+    List<ItemRequestDto> requests;
+    String nextCursor;
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RequesterDto {
+
+    Long id;
+    String name;
+}
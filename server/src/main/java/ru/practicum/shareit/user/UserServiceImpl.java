@@ -1,12 +1,20 @@
 package ru.practicum.shareit.user;
 
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
 import ru.practicum.shareit.exception.NotFoundException;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.*;
 import java.util.List;
+import static ru.practicum.shareit.constants.Constants.ITEM_CACHE;
+import static ru.practicum.shareit.util.TransactionCallbacks.afterCommit;
 
 @Service
 @Transactional(readOnly = true)
@@ -15,6 +23,10 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final BookingAvailability bookingAvailability;
+    private final ItemSearchIndex itemSearchIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     @Transactional
@@ -38,6 +50,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = ITEM_CACHE, allEntries = true)
     public UserResponse updateUser(long userId, UpdateUserRequest request) {
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException(String.format(
                 "Пользователя с id = %d нет в базе", userId)));
@@ -51,7 +64,13 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = ITEM_CACHE, allEntries = true)
     public void deleteUserById(long userId) {
+        List<Long> itemIds = itemRepository.findIdsByOwnerId(userId);
+        bookingAvailability.removeUser(userId);
         userRepository.deleteById(userId);
+        itemIds.forEach(itemSearchIndex::remove);
+        afterCommit(() -> entityManagerFactory.getCache().evict(Item.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.util;
+
+import java.util.Arrays;
+
+public final class LongIndex {
+
+    public static final int ABSENT = -1;
+
+    private final long[] keys;
+    private final int[] positions;
+    private final int mask;
+
+    private LongIndex(int capacity) {
+        keys = new long[capacity];
+        positions = new int[capacity];
+        mask = capacity - 1;
+        Arrays.fill(positions, ABSENT);
+    }
+
+    public static LongIndex of(long[] ids) {
+        LongIndex index = new LongIndex(Integer.highestOneBit(Math.max(ids.length, 1) * 2 - 1) << 1);
+        for (int position = 0; position < ids.length; position++) {
+            index.put(ids[position], position);
+        }
+        return index;
+    }
+
+    public int positionOf(long id) {
+        for (int slot = slot(id); ; slot = (slot + 1) & mask) {
+            int position = positions[slot];
+            if (position == ABSENT || keys[slot] == id) {
+                return position;
+            }
+        }
+    }
+
+    private void put(long id, int position) {
+        for (int slot = slot(id); ; slot = (slot + 1) & mask) {
+            if (positions[slot] == ABSENT) {
+                keys[slot] = id;
+                positions[slot] = position;
+                return;
+            }
+            if (keys[slot] == id) {
+                return;
+            }
+        }
+    }
+
+    private int slot(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,11 @@
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_id_start_time ON bookings (booker_id, start_time, id);
+
+CREATE INDEX IF NOT EXISTS idx_bookings_item_id_status_start_time ON bookings (item_id, status, start_time);
+
+CREATE INDEX IF NOT EXISTS idx_items_owner_id ON items (owner_id);
+
+CREATE INDEX IF NOT EXISTS idx_items_request_id ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS idx_comments_item_id ON comments (item_id);
+
+CREATE INDEX IF NOT EXISTS idx_requests_requester_id_created_at ON requests (requester_id, created_at);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_requests_created_at_id ON requests (created_at, id);
@@ -0,0 +1,72 @@
+package ru.practicum.shareit;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class QueryIndexTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void migrationCreatesIndexesTest() {
+        List<String> indexes = jdbcTemplate.queryForList("SELECT LOWER(index_name) FROM information_schema.indexes",
+                String.class);
+
+        assertTrue(indexes.containsAll(List.of(
+                "idx_bookings_booker_id_start_time",
+                "idx_bookings_item_id_status_start_time",
+                "idx_items_owner_id",
+                "idx_items_request_id",
+                "idx_comments_item_id",
+                "idx_requests_requester_id_created_at",
+                "idx_requests_created_at_id")));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "SELECT * FROM bookings AS b WHERE b.booker_id = 1 AND (b.start_time, b.id) < (CURRENT_TIMESTAMP, 10) "
+                    + "ORDER BY b.start_time DESC, b.id DESC LIMIT 10"
+                    + "|idx_bookings_booker_id_start_time",
+            "SELECT * FROM bookings AS b WHERE b.booker_id = 1 AND b.status = 'WAITING' "
+                    + "AND b.start_time < CURRENT_TIMESTAMP ORDER BY b.start_time DESC, b.id DESC LIMIT 10"
+                    + "|idx_bookings_booker_id_start_time",
+            "SELECT * FROM bookings AS b WHERE b.item_id = 1 AND b.status = 'APPROVED' "
+                    + "AND b.start_time < CURRENT_TIMESTAMP|idx_bookings_item_id_status_start_time"
+    })
+    public void compositeIndexIsUsedTest(String sql, String index) {
+        String plan = explain(sql);
+
+        assertTrue(plan.contains(index), plan);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT * FROM bookings AS b WHERE b.item_id IN (1, 2) AND b.status = 'APPROVED'",
+            "SELECT * FROM items AS i WHERE i.owner_id = 1",
+            "SELECT * FROM items AS i WHERE i.request_id IN (1, 2)",
+            "SELECT * FROM comments AS c WHERE c.item_id IN (1, 2)",
+            "SELECT * FROM requests AS r WHERE r.requester_id = 1 ORDER BY r.created_at DESC"
+    })
+    public void hotQueryDoesNotScanTableTest(String sql) {
+        String plan = explain(sql);
+
+        assertFalse(plan.contains("tablescan"), plan);
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class).toLowerCase();
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.itemDto.CreateItemRequest;
+import ru.practicum.shareit.item.itemDto.ItemResponse;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.CreateUserRequest;
+import ru.practicum.shareit.user.dto.UpdateUserRequest;
+import ru.practicum.shareit.user.dto.UserResponse;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.constants.Constants.USER_ENTITY_REGION;
+
+@SpringBootTest(
+        properties = "shareit.cache.second-level.enabled=true",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SecondLevelCacheIntegrationTest {
+
+    final UserService userService;
+    final ItemService itemService;
+    final EntityManagerFactory entityManagerFactory;
+    final List<Long> createdUserIds = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        createdUserIds.forEach(userService::deleteUserById);
+    }
+
+    @Test
+    public void getUserByIdIsServedFromSecondLevelCacheTest() {
+        UserResponse user = createUser("cached_user");
+        CacheRegionStatistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(USER_ENTITY_REGION);
+        long hitsBefore = statistics.getHitCount();
+
+        userService.getUserById(user.getId());
+        userService.getUserById(user.getId());
+
+        assertTrue(entityManagerFactory.getCache().contains(User.class, user.getId()));
+        assertTrue(statistics.getHitCount() > hitsBefore);
+    }
+
+    @Test
+    public void updateUserRefreshesCachedUserTest() {
+        UserResponse user = createUser("stale_user");
+        userService.getUserById(user.getId());
+
+        userService.updateUser(user.getId(), UpdateUserRequest.builder().name("fresh_user").build());
+
+        assertEquals("fresh_user", userService.getUserById(user.getId()).getName());
+    }
+
+    @Test
+    public void deleteUserEvictsCachedItemsTest() {
+        UserResponse owner = createUser("cached_owner");
+        ItemResponse item = itemService.createItem(new CreateItemRequest("item", "item_description", true, null),
+                owner.getId());
+        itemService.getItemById(item.getId());
+
+        createdUserIds.remove(owner.getId());
+        userService.deleteUserById(owner.getId());
+
+        assertFalse(entityManagerFactory.getCache().contains(Item.class, item.getId()));
+    }
+
+    private UserResponse createUser(String name) {
+        UserResponse user = userService.createUser(new CreateUserRequest(name, name + "@cache.test"));
+        createdUserIds.add(user.getId());
+        return user;
+    }
+}
@@ -0,0 +1,111 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
+import ru.practicum.shareit.booking.dto.CreateBookingRequest;
+import ru.practicum.shareit.booking.lock.RowItemLockManager;
+import ru.practicum.shareit.booking.lock.StripedItemLockManager;
+import ru.practicum.shareit.exception.UnavailableBookingException;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.ItemServiceImpl;
+import ru.practicum.shareit.item.itemDto.CreateItemRequest;
+import ru.practicum.shareit.item.itemDto.ItemResponse;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserServiceImpl;
+import ru.practicum.shareit.user.dto.CreateUserRequest;
+import ru.practicum.shareit.user.dto.UserResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingConcurrencyTest {
+
+    static final int THREADS = 8;
+    static final int ATTEMPTS_PER_THREAD = 25;
+
+    final BookingRepository bookingRepository;
+    final UserRepository userRepository;
+    final ItemRepository itemRepository;
+    final UserServiceImpl userService;
+    final ItemServiceImpl itemService;
+    final BookingAvailability bookingAvailability;
+    final TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"row", "striped"})
+    public void concurrentOverlappingBookingsNeverDoubleBookItemTest(String itemLock) throws Exception {
+        BookingServiceImpl bookingService = new BookingServiceImpl(bookingRepository, userRepository, itemRepository,
+                itemLock.equals("row") ? new RowItemLockManager(itemRepository) : new StripedItemLockManager(),
+                bookingAvailability);
+        UserResponse owner = userService.createUser(new CreateUserRequest(itemLock + "_owner",
+                itemLock + "_owner@mail.ru"));
+        ItemResponse item = itemService.createItem(new CreateItemRequest(itemLock + "_item", "stress_item_description",
+                true, null), owner.getId());
+        List<UserResponse> bookers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            bookers.add(userService.createUser(new CreateUserRequest(itemLock + "_booker" + i,
+                    itemLock + "_booker" + i + "@mail.ru")));
+        }
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (UserResponse booker : bookers) {
+                tasks.add(executor.submit(() -> {
+                    startSignal.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        LocalDateTime start = base.plusHours(attempt);
+                        CreateBookingRequest request = new CreateBookingRequest(start, start.plusHours(2),
+                                item.getId());
+                        try {
+                            transactionTemplate.executeWithoutResult(status ->
+                                    bookingService.createBooking(request, booker.getId()));
+                            created.incrementAndGet();
+                        } catch (UnavailableBookingException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+
+        List<Booking> bookings = bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId().equals(item.getId()))
+                .toList();
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD, created.get() + rejected.get());
+        assertEquals(created.get(), bookings.size());
+        assertTrue(created.get() > 0);
+        for (Booking first : bookings) {
+            for (Booking second : bookings) {
+                if (!first.getId().equals(second.getId())) {
+                    assertFalse(first.getStart().isBefore(second.getEnd()) && second.getStart().isBefore(first.getEnd()),
+                            "Бронирования " + first.getId() + " и " + second.getId() + " пересекаются");
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.ApproveBookingRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingResponse;
 import ru.practicum.shareit.booking.dto.CreateBookingRequest;
 import ru.practicum.shareit.item.Item;
@@ -19,6 +21,7 @@ import ru.practicum.shareit.user.dto.UserResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
@@ -27,6 +30,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
+import static ru.practicum.shareit.constants.Constants.NEXT_CURSOR_HEADER;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @WebMvcTest(controllers = BookingController.class)
@@ -85,6 +89,34 @@ public class BookingControllerTest {
         verify(bookingService, Mockito.times(1)).createBooking(createBookingRequest, booker.getId());
     }
 
+    @Test
+    public void createBookingsTest() throws Exception {
+        List<CreateBookingRequest> requests = List.of(
+                new CreateBookingRequest(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), item.getId()),
+                new CreateBookingRequest(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), 99L));
+        BookingResponse bookingResponse = new BookingResponse(1L, FORMATTER.format(requests.getFirst().getStart()),
+                FORMATTER.format(requests.getFirst().getEnd()), itemResponse, bookerResponse, BookingStatus.WAITING);
+
+        when(bookingService.createBookings(requests, booker.getId()))
+                .thenReturn(List.of(new BookingBatchResult(201, bookingResponse, null),
+                        new BookingBatchResult(404, null, "Вещи с id = 99 нет в базе")));
+
+        mvc.perform(post("/bookings/batch")
+                        .content(mapper.writeValueAsString(requests))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(USER_ID_HEADER, booker.getId())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].status", is(201)))
+                .andExpect(jsonPath("$[0].booking.id", is(bookingResponse.getId()), Long.class))
+                .andExpect(jsonPath("$[1].status", is(404)))
+                .andExpect(jsonPath("$[1].error", is("Вещи с id = 99 нет в базе")));
+
+        verify(bookingService, Mockito.times(1)).createBookings(requests, booker.getId());
+    }
+
     @Test
     public void approveBookingTest() throws Exception {
         Booking notApprovedBooking = new Booking(1L, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3),
@@ -150,8 +182,8 @@ public class BookingControllerTest {
         BookingResponse bookingResponse = new BookingResponse(1L, FORMATTER.format(booking.getStart()),
                 FORMATTER.format(booking.getEnd()), itemResponse, bookerResponse, BookingStatus.APPROVED);
 
-        when(bookingService.getBookingsByBookerId(anyString(), anyLong()))
-                .thenReturn(List.of(bookingResponse));
+        when(bookingService.getBookingsByBookerId(anyString(), anyLong(), isNull(), anyInt()))
+                .thenReturn(new BookingPage(List.of(bookingResponse), null));
 
         mvc.perform(get("/bookings")
                         .param("state", String.valueOf(BookingState.CURRENT))
@@ -165,7 +197,7 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$[0].booker", is(bookingResponse.getBooker()), UserResponse.class))
                 .andExpect(jsonPath("$[0].status", is(String.valueOf(bookingResponse.getStatus()))));
 
-        verify(bookingService, Mockito.times(1)).getBookingsByBookerId(anyString(), anyLong());
+        verify(bookingService, Mockito.times(1)).getBookingsByBookerId(anyString(), anyLong(), isNull(), anyInt());
     }
 
     @Test
@@ -175,8 +207,8 @@ public class BookingControllerTest {
         BookingResponse bookingResponse = new BookingResponse(1L, FORMATTER.format(booking.getStart()),
                 FORMATTER.format(booking.getEnd()), itemResponse, bookerResponse, BookingStatus.APPROVED);
 
-        when(bookingService.getBookingsByItemOwnerId(anyString(), anyLong()))
-                .thenReturn(List.of(bookingResponse));
+        when(bookingService.getBookingsByItemOwnerId(anyString(), anyLong(), isNull(), anyInt()))
+                .thenReturn(new BookingPage(List.of(bookingResponse), null));
 
         mvc.perform(get("/bookings/owner")
                         .param("state", String.valueOf(BookingState.CURRENT))
@@ -190,6 +222,41 @@ public class BookingControllerTest {
                 .andExpect(jsonPath("$[0].booker", is(bookingResponse.getBooker()), UserResponse.class))
                 .andExpect(jsonPath("$[0].status", is(String.valueOf(bookingResponse.getStatus()))));
 
-        verify(bookingService, Mockito.times(1)).getBookingsByItemOwnerId(anyString(), anyLong());
+        verify(bookingService, Mockito.times(1)).getBookingsByItemOwnerId(anyString(), anyLong(), isNull(), anyInt());
+    }
+
+    @Test
+    public void getBookingsByBookerIdWithNextPageTest() throws Exception {
+        Booking booking = new Booking(1L, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(3), item,
+                booker, BookingStatus.APPROVED);
+        BookingResponse bookingResponse = new BookingResponse(1L, FORMATTER.format(booking.getStart()),
+                FORMATTER.format(booking.getEnd()), itemResponse, bookerResponse, BookingStatus.APPROVED);
+
+        when(bookingService.getBookingsByBookerId("ALL", booker.getId(), "cursor", 1))
+                .thenReturn(new BookingPage(List.of(bookingResponse), "nextCursor"));
+
+        mvc.perform(get("/bookings")
+                        .param("cursor", "cursor")
+                        .param("size", "1")
+                        .header(USER_ID_HEADER, booker.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(NEXT_CURSOR_HEADER, "nextCursor"))
+                .andExpect(jsonPath("$[0].id", is(bookingResponse.getId()), Long.class));
+
+        verify(bookingService, Mockito.times(1)).getBookingsByBookerId("ALL", booker.getId(), "cursor", 1);
+    }
+
+    @Test
+    public void getBookingsByItemOwnerIdOnLastPageTest() throws Exception {
+        when(bookingService.getBookingsByItemOwnerId("ALL", owner.getId(), null, 20))
+                .thenReturn(new BookingPage(List.of(), null));
+
+        mvc.perform(get("/bookings/owner")
+                        .header(USER_ID_HEADER, owner.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        verify(bookingService, Mockito.times(1)).getBookingsByItemOwnerId("ALL", owner.getId(), null, 20);
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.ServerBenchmarkContext;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.user.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BookingListingBenchmark {
+
+    static final int ITEM_COUNT = 100;
+    static final int BOOKING_COUNT = 10_000;
+    static final LocalDateTime FIRST_PAGE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Param({"100", "10000"})
+    int pageSize;
+
+    ServerBenchmarkContext context;
+    BookingRepository bookingRepository;
+    EntityManager entityManager;
+    long bookerId;
+
+    @Setup
+    public void setUp() {
+        context = ServerBenchmarkContext.start();
+        bookingRepository = context.getBean(BookingRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        bookerId = context.inTransaction(status -> seed());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String entityListing() {
+        return context.inReadOnlyTransaction(status -> {
+            List<Booking> bookings = entityManager.createQuery("""
+                            SELECT b
+                            FROM Booking AS b
+                            JOIN FETCH b.item AS i
+                            WHERE b.booker.id = :bookerId
+                            AND (b.start, b.id) < (:cursorStart, :cursorId)
+                            ORDER BY b.start DESC, b.id DESC
+                            """, Booking.class)
+                    .setParameter("bookerId", bookerId)
+                    .setParameter("cursorStart", FIRST_PAGE)
+                    .setParameter("cursorId", Long.MAX_VALUE)
+                    .setMaxResults(pageSize + 1)
+                    .getResultList();
+            List<BookingResponse> page = new ArrayList<>(pageSize);
+            for (Booking booking : bookings.subList(0, Math.min(pageSize, bookings.size()))) {
+                page.add(BookingMapper.toBookingResponse(booking));
+            }
+            return context.write(page);
+        });
+    }
+
+    @Benchmark
+    public String projectionListing() {
+        return context.inReadOnlyTransaction(status -> {
+            List<BookingResponse> page = BookingMapper.toListOfBookingsResponse(bookingRepository
+                    .findByBookerIdOrderByStartDesc(bookerId, FIRST_PAGE, Long.MAX_VALUE, Limit.of(pageSize + 1)));
+            return context.write(page.subList(0, Math.min(pageSize, page.size())));
+        });
+    }
+
+    private long seed() {
+        User owner = User.builder()
+                .name("owner")
+                .email("owner@mail.ru")
+                .build();
+        User booker = User.builder()
+                .name("booker")
+                .email("booker@mail.ru")
+                .build();
+        entityManager.persist(owner);
+        entityManager.persist(booker);
+        List<Item> items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = Item.builder()
+                    .name("item" + i)
+                    .description("description" + i)
+                    .available(true)
+                    .owner(owner)
+                    .build();
+            entityManager.persist(item);
+            items.add(item);
+        }
+        LocalDateTime start = LocalDateTime.now().minusYears(1);
+        for (int i = 0; i < BOOKING_COUNT; i++) {
+            entityManager.persist(Booking.builder()
+                    .start(start.plusHours(i))
+                    .end(start.plusHours(i + 1))
+                    .item(items.get(i % ITEM_COUNT))
+                    .booker(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build());
+        }
+        return booker.getId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ServerBenchmarkContext.run(BookingListingBenchmark.class);
+    }
+}
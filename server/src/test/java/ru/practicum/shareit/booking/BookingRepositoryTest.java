@@ -0,0 +1,172 @@
+package ru.practicum.shareit.booking;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.dto.BookingRow;
+import ru.practicum.shareit.booking.dto.BookingShortView;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BookingRepositoryTest {
+
+    @Autowired
+    BookingRepository bookingRepository;
+    @Autowired
+    ItemRepository itemRepository;
+    @Autowired
+    UserRepository userRepository;
+    User owner;
+    User booker;
+    Item firstItem;
+    Item secondItem;
+    LocalDateTime now;
+
+    @BeforeEach
+    public void setUp() {
+        now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        owner = userRepository.save(new User(null, "user1", "user1@mail.ru"));
+        booker = userRepository.save(new User(null, "user2", "user2@mail.ru"));
+        firstItem = itemRepository.save(new Item(null, "item1", "item1_description", true, owner, null));
+        secondItem = itemRepository.save(new Item(null, "item2", "item2_description", true, owner, null));
+    }
+
+    @Test
+    public void findLastAndNextBookingsByItemIdInTest() {
+        saveBooking(firstItem, now.minusDays(10), now.minusDays(9), BookingStatus.APPROVED);
+        Booking lastBooking = saveBooking(firstItem, now.minusDays(5), now.minusDays(4), BookingStatus.APPROVED);
+        saveBooking(firstItem, now.minusDays(2), now.minusDays(1), BookingStatus.REJECTED);
+        Booking nextBooking = saveBooking(firstItem, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED);
+        saveBooking(firstItem, now.plusDays(5), now.plusDays(6), BookingStatus.APPROVED);
+        Booking onlyNextBooking = saveBooking(secondItem, now.plusDays(3), now.plusDays(4), BookingStatus.APPROVED);
+
+        List<BookingShortView> result = bookingRepository.findLastAndNextBookingsByItemIdIn(
+                Set.of(firstItem.getId(), secondItem.getId()), now);
+
+        assertEquals(3, result.size());
+
+        BookingShortView firstItemLast = findView(result, firstItem, true);
+        assertEquals(lastBooking.getId(), firstItemLast.getId());
+        assertEquals(booker.getId(), firstItemLast.getBookerId());
+        assertEquals(booker.getName(), firstItemLast.getBookerName());
+        assertEquals(booker.getEmail(), firstItemLast.getBookerEmail());
+        assertEquals(nextBooking.getId(), findView(result, firstItem, false).getId());
+        assertEquals(onlyNextBooking.getId(), findView(result, secondItem, false).getId());
+        assertNull(findView(result, secondItem, true));
+    }
+
+    @Test
+    public void findLastAndNextBookingsByItemIdInWhenThereAreNoBookingsTest() {
+        List<BookingShortView> result = bookingRepository.findLastAndNextBookingsByItemIdIn(
+                Set.of(firstItem.getId()), now);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void findIntervalsByItemIdsReturnsOverlappingBookingsOrderedByStartTest() {
+        saveBooking(firstItem, now.minusDays(3), now.minusDays(2), BookingStatus.APPROVED);
+        Booking later = saveBooking(firstItem, now.plusDays(2), now.plusDays(4), BookingStatus.WAITING);
+        Booking earlier = saveBooking(firstItem, now.minusDays(1), now.plusDays(1), BookingStatus.APPROVED);
+        Booking other = saveBooking(secondItem, now.plusDays(1), now.plusDays(2), BookingStatus.APPROVED);
+        saveBooking(secondItem, now.plusDays(5), now.plusDays(6), BookingStatus.APPROVED);
+
+        List<BookingIntervalView> result = bookingRepository.findIntervalsByItemIds(
+                Set.of(firstItem.getId(), secondItem.getId()), now, now.plusDays(5));
+
+        assertEquals(List.of(earlier.getId(), later.getId(), other.getId()),
+                result.stream().map(BookingIntervalView::getId).toList());
+    }
+
+    @Test
+    public void findByBookerIdOrderByStartDescPagesThroughAllBookingsTest() {
+        Booking first = saveBooking(firstItem, now.plusDays(3), now.plusDays(4), BookingStatus.WAITING);
+        Booking second = saveBooking(secondItem, now.plusDays(2), now.plusDays(3), BookingStatus.WAITING);
+        Booking third = saveBooking(firstItem, now.plusDays(2), now.plusDays(3), BookingStatus.APPROVED);
+        Booking fourth = saveBooking(secondItem, now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        BookingCursor cursor = BookingCursor.firstPage();
+
+        List<BookingRow> firstPage = bookingRepository.findByBookerIdOrderByStartDesc(booker.getId(), cursor.getStart(),
+                cursor.getId(), Limit.of(2));
+
+        assertEquals(List.of(first.getId(), third.getId()), ids(firstPage));
+
+        cursor = BookingCursor.decode(BookingCursor.after(firstPage.getLast()).encode());
+        List<BookingRow> secondPage = bookingRepository.findByBookerIdOrderByStartDesc(booker.getId(), cursor.getStart(),
+                cursor.getId(), Limit.of(2));
+
+        assertEquals(List.of(second.getId(), fourth.getId()), ids(secondPage));
+
+        cursor = BookingCursor.after(secondPage.getLast());
+        List<BookingRow> lastPage = bookingRepository.findByBookerIdOrderByStartDesc(booker.getId(), cursor.getStart(),
+                cursor.getId(), Limit.of(2));
+
+        assertTrue(lastPage.isEmpty());
+    }
+
+    @Test
+    public void getAllBookingsByOwnerIdOrderByStartDescPagesThroughAllBookingsTest() {
+        Booking first = saveBooking(firstItem, now.plusDays(2), now.plusDays(3), BookingStatus.WAITING);
+        Booking second = saveBooking(secondItem, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        Booking third = saveBooking(firstItem, now.minusDays(2), now.minusDays(1), BookingStatus.APPROVED);
+        BookingCursor cursor = BookingCursor.firstPage();
+
+        List<BookingRow> firstPage = bookingRepository.getAllBookingsByOwnerIdOrderByStartDesc(owner.getId(),
+                cursor.getStart(), cursor.getId(), Limit.of(2));
+
+        assertEquals(List.of(first.getId(), second.getId()), ids(firstPage));
+
+        cursor = BookingCursor.after(firstPage.getLast());
+        List<BookingRow> secondPage = bookingRepository.getAllBookingsByOwnerIdOrderByStartDesc(owner.getId(),
+                cursor.getStart(), cursor.getId(), Limit.of(2));
+
+        assertEquals(List.of(third.getId()), ids(secondPage));
+    }
+
+    @Test
+    public void findByBookerIdOrderByStartDescSelectsResponseColumnsTest() {
+        Booking booking = saveBooking(firstItem, now.plusDays(1), now.plusDays(2), BookingStatus.WAITING);
+        BookingCursor cursor = BookingCursor.firstPage();
+
+        BookingRow row = bookingRepository.findByBookerIdOrderByStartDesc(booker.getId(), cursor.getStart(),
+                cursor.getId(), Limit.of(1)).getFirst();
+
+        assertEquals(booking.getId(), row.getId());
+        assertEquals(BookingStatus.WAITING, row.getStatus());
+        assertEquals(firstItem.getId(), row.getItemId());
+        assertEquals(firstItem.getName(), row.getItemName());
+        assertEquals(firstItem.getAvailable(), row.getItemAvailable());
+        assertNull(row.getItemRequestId());
+        assertEquals(booker.getId(), row.getBookerId());
+        assertEquals(booker.getEmail(), row.getBookerEmail());
+    }
+
+    private static List<Long> ids(List<BookingRow> bookings) {
+        return bookings.stream().map(BookingRow::getId).toList();
+    }
+
+    private Booking saveBooking(Item item, LocalDateTime start, LocalDateTime end, BookingStatus status) {
+        return bookingRepository.save(new Booking(null, start, end, item, booker, status));
+    }
+
+    private BookingShortView findView(List<BookingShortView> views, Item item, boolean lastBooking) {
+        return views.stream()
+                .filter(view -> view.getItemId().equals(item.getId()) && view.getLastBooking() == lastBooking)
+                .findFirst()
+                .orElse(null);
+    }
+}
\ No newline at end of file
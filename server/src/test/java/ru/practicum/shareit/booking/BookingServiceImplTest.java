@@ -9,8 +9,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
 import ru.practicum.shareit.booking.dto.ApproveBookingRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.dto.BookingPage;
 import ru.practicum.shareit.booking.dto.BookingResponse;
+import ru.practicum.shareit.booking.dto.BookingRow;
+import ru.practicum.shareit.booking.dto.CreateBookingRequest;
+import ru.practicum.shareit.booking.lock.ItemLockManager;
 import ru.practicum.shareit.exception.ErrorHandler;
 import ru.practicum.shareit.exception.ErrorResponse;
 import ru.practicum.shareit.exception.NotFoundException;
@@ -21,14 +30,19 @@ import ru.practicum.shareit.item.itemDto.ItemResponse;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.dto.UserResponse;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
+import static ru.practicum.shareit.constants.Constants.MAX_BOOKING_BATCH_SIZE;
+import static ru.practicum.shareit.constants.Constants.MAX_PAGE_SIZE;
 
 @ExtendWith(MockitoExtension.class)
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -46,6 +60,12 @@ public class BookingServiceImplTest {
     @Mock
     ItemRepository itemRepository;
 
+    @Mock
+    ItemLockManager itemLockManager;
+
+    @Mock
+    BookingAvailability bookingAvailability;
+
     User owner;
     User booker;
     Item item;
@@ -190,6 +210,133 @@ public class BookingServiceImplTest {
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    void createBookingWhenOverlapConstraintIsViolatedTest() {
+        CreateBookingRequest request = new CreateBookingRequest(LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), item.getId());
+
+        when(userRepository.findById(booker.getId())).thenReturn(Optional.of(booker));
+        when(itemRepository.findByIdForUpdate(item.getId())).thenReturn(Optional.of(item));
+        when(bookingRepository.save(any(Booking.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLException("ERROR: conflicting key value violates exclusion constraint " +
+                                "\"ex_bookings_item_period\"", "23P01")));
+
+        UnavailableBookingException exception = assertThrows(UnavailableBookingException.class,
+                () -> bookingService.createBooking(request, booker.getId()));
+
+        ErrorHandler errorHandler = new ErrorHandler();
+        ErrorResponse errorResponse = errorHandler.handleUnavailableBookingException(exception);
+
+        assertEquals(exception.getMessage(), errorResponse.getError());
+    }
+
+    @Test
+    void createBookingsReportsResultPerEntryTest() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<CreateBookingRequest> requests = List.of(
+                new CreateBookingRequest(start, start.plusDays(2), item.getId()),
+                new CreateBookingRequest(start.plusDays(1), start.plusDays(3), item.getId()),
+                new CreateBookingRequest(start, start.plusDays(1), 99L),
+                new CreateBookingRequest(start.plusDays(1), start, item.getId()));
+
+        when(userRepository.findById(booker.getId())).thenReturn(Optional.of(booker));
+        when(itemRepository.findAllByIdForUpdate(Set.of(item.getId(), 99L))).thenReturn(List.of(item));
+
+        List<BookingBatchResult> results = bookingService.createBookings(requests, booker.getId());
+
+        assertEquals(List.of(201, 400, 404, 400), results.stream().map(BookingBatchResult::getStatus).toList());
+        assertEquals(item.getId(), results.getFirst().getBooking().getItem().getId());
+        assertNull(results.getFirst().getError());
+        assertNull(results.get(1).getBooking());
+        assertEquals("Вещи с id = 99 нет в базе", results.get(2).getError());
+
+        verify(itemLockManager, Mockito.times(1)).lockItem(item.getId());
+        verify(itemLockManager, Mockito.times(1)).lockItem(99L);
+        verify(itemRepository, Mockito.times(1)).findAllByIdForUpdate(Set.of(item.getId(), 99L));
+        verify(bookingRepository, Mockito.times(1)).findIntervalsByItemIds(Set.of(item.getId()), start,
+                start.plusDays(3));
+        verify(bookingRepository, Mockito.times(1)).saveAll(anyList());
+        verify(bookingAvailability, Mockito.times(1)).add(any(Booking.class));
+    }
+
+    @Test
+    void createBookingsChecksStoredBookingsWithOneQueryTest() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        BookingIntervalView storedBooking = Mockito.mock(BookingIntervalView.class);
+        when(storedBooking.getItemId()).thenReturn(item.getId());
+        when(storedBooking.getStartTime()).thenReturn(start.plusDays(2));
+        when(storedBooking.getEndTime()).thenReturn(start.plusDays(3));
+
+        when(userRepository.findById(booker.getId())).thenReturn(Optional.of(booker));
+        when(itemRepository.findAllByIdForUpdate(Set.of(item.getId()))).thenReturn(List.of(item));
+        when(bookingRepository.findIntervalsByItemIds(Set.of(item.getId()), start, start.plusDays(5)))
+                .thenReturn(List.of(storedBooking));
+
+        List<BookingBatchResult> results = bookingService.createBookings(List.of(
+                new CreateBookingRequest(start, start.plusDays(1), item.getId()),
+                new CreateBookingRequest(start.plusDays(2), start.plusDays(4), item.getId()),
+                new CreateBookingRequest(start.plusDays(4), start.plusDays(5), item.getId())), booker.getId());
+
+        assertEquals(List.of(201, 400, 201), results.stream().map(BookingBatchResult::getStatus).toList());
+        verify(bookingRepository, Mockito.times(1)).findIntervalsByItemIds(anyCollection(), any(), any());
+        verify(bookingAvailability, never()).isBooked(anyLong(), any(), any());
+    }
+
+    @Test
+    void createBookingsWhenOwnerBooksOwnItemTest() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+        when(itemRepository.findAllByIdForUpdate(Set.of(item.getId()))).thenReturn(List.of(item));
+
+        List<BookingBatchResult> results = bookingService.createBookings(
+                List.of(new CreateBookingRequest(start, start.plusDays(1), item.getId())), owner.getId());
+
+        assertEquals(403, results.getFirst().getStatus());
+        verify(bookingAvailability, never()).add(any(Booking.class));
+    }
+
+    @Test
+    void createBookingsWhenOverlapConstraintIsViolatedTest() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+
+        when(userRepository.findById(booker.getId())).thenReturn(Optional.of(booker));
+        when(itemRepository.findAllByIdForUpdate(Set.of(item.getId()))).thenReturn(List.of(item));
+        when(bookingRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("could not execute batch",
+                        new SQLException("ERROR: conflicting key value violates exclusion constraint " +
+                                "\"ex_bookings_item_period\"", "23P01")));
+
+        assertThrows(UnavailableBookingException.class, () -> bookingService.createBookings(
+                List.of(new CreateBookingRequest(start, start.plusDays(1), item.getId())), booker.getId()));
+        verify(bookingAvailability, never()).add(any(Booking.class));
+    }
+
+    @Test
+    void createBookingsWhenBatchIsTooLargeTest() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<CreateBookingRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= MAX_BOOKING_BATCH_SIZE; i++) {
+            requests.add(new CreateBookingRequest(start.plusDays(i), start.plusDays(i + 1), item.getId()));
+        }
+
+        assertThrows(UnavailableBookingException.class, () -> bookingService.createBookings(requests,
+                booker.getId()));
+        verifyNoInteractions(userRepository, itemRepository, bookingRepository);
+    }
+
+    @Test
+    void getBookingsWhenPageSizeIsOutOfRangeTest() {
+        assertThrows(UnavailableBookingException.class, () -> bookingService.getBookingsByBookerId("ALL",
+                booker.getId(), null, 0));
+        assertThrows(UnavailableBookingException.class, () -> bookingService.getBookingsByItemOwnerId("ALL",
+                owner.getId(), null, -1));
+        assertThrows(UnavailableBookingException.class, () -> bookingService.getBookingsByBookerId("ALL",
+                booker.getId(), null, MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(userRepository, bookingRepository);
+    }
+
     @Test
     void approveBookingWhenBookingNotFoundTest() {
         when(bookingRepository.findByIdWithItem(approveBookingRequest.getBookingId()))
@@ -314,32 +461,34 @@ public class BookingServiceImplTest {
         when(userRepository.findById(booker.getId()))
                 .thenReturn(Optional.of(booker));
         when(bookingRepository.findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(),
-                any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(booking));
+                any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(booking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByBookerId("Current", booker.getId());
+        List<BookingResponse> result = bookingService.getBookingsByBookerId("Current", booker.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(booker.getId());
         verify(bookingRepository, Mockito.times(1)).findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(),
-                any(LocalDateTime.class), any(LocalDateTime.class));
+                any(LocalDateTime.class), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
     public void getBookingsByBookerIdWhenUserExistsAndStateIsPastTest() {
         when(userRepository.findById(booker.getId()))
                 .thenReturn(Optional.of(booker));
-        when(bookingRepository.findByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(LocalDateTime.class)))
-                .thenReturn(List.of(appvovedBooking));
+        when(bookingRepository.findByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(appvovedBooking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByBookerId("Past", booker.getId());
+        List<BookingResponse> result = bookingService.getBookingsByBookerId("Past", booker.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(booker.getId());
         verify(bookingRepository, Mockito.times(1)).findByBookerIdAndEndBeforeOrderByStartDesc(anyLong(),
-                any(LocalDateTime.class));
+                any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -364,15 +513,16 @@ public class BookingServiceImplTest {
 
         when(userRepository.findById(booker.getId()))
                 .thenReturn(Optional.of(booker));
-        when(bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class)))
-                .thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(booking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByBookerId("Future", booker.getId());
+        List<BookingResponse> result = bookingService.getBookingsByBookerId("Future", booker.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(booker.getId());
-        verify(bookingRepository, Mockito.times(1)).findByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, Mockito.times(1)).findByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -388,15 +538,16 @@ public class BookingServiceImplTest {
 
         when(userRepository.findById(booker.getId()))
                 .thenReturn(Optional.of(booker));
-        when(bookingRepository.findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class)))
-                .thenReturn(List.of(notAppvovedBooking));
+        when(bookingRepository.findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(notAppvovedBooking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByBookerId("WAITING", booker.getId());
+        List<BookingResponse> result = bookingService.getBookingsByBookerId("WAITING", booker.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(booker.getId());
-        verify(bookingRepository, Mockito.times(1)).findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class));
+        verify(bookingRepository, Mockito.times(1)).findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -421,30 +572,32 @@ public class BookingServiceImplTest {
 
         when(userRepository.findById(booker.getId()))
                 .thenReturn(Optional.of(booker));
-        when(bookingRepository.findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class)))
-                .thenReturn(List.of(booking));
+        when(bookingRepository.findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(booking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByBookerId("REJECTED", booker.getId());
+        List<BookingResponse> result = bookingService.getBookingsByBookerId("REJECTED", booker.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(booker.getId());
-        verify(bookingRepository, Mockito.times(1)).findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class));
+        verify(bookingRepository, Mockito.times(1)).findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
     public void getBookingsByBookerIdWhenUserExistsAndStateIsDefaultTest() {
         when(userRepository.findById(booker.getId()))
                 .thenReturn(Optional.of(booker));
-        when(bookingRepository.findByBookerIdOrderByStartDesc(booker.getId()))
-                .thenReturn(List.of(appvovedBooking));
+        when(bookingRepository.findByBookerIdOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(appvovedBooking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByBookerId("ALL", booker.getId());
+        List<BookingResponse> result = bookingService.getBookingsByBookerId("ALL", booker.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(booker.getId());
-        verify(bookingRepository, Mockito.times(1)).findByBookerIdOrderByStartDesc(booker.getId());
+        verify(bookingRepository, Mockito.times(1)).findByBookerIdOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -453,7 +606,7 @@ public class BookingServiceImplTest {
                 .thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
-                () -> bookingService.getBookingsByBookerId("ALL", booker.getId()));
+                () -> bookingService.getBookingsByBookerId("ALL", booker.getId(), null, 10));
 
         ErrorHandler errorHandler = new ErrorHandler();
         ErrorResponse errorResponse = errorHandler.handleNotFoundException(exception);
@@ -469,7 +622,7 @@ public class BookingServiceImplTest {
                 .thenReturn(Optional.of(booker));
 
         UnavailableBookingException exception = assertThrows(UnavailableBookingException.class,
-                () -> bookingService.getBookingsByBookerId("Incorrect_State", booker.getId()));
+                () -> bookingService.getBookingsByBookerId("Incorrect_State", booker.getId(), null, 10));
 
         ErrorHandler errorHandler = new ErrorHandler();
         ErrorResponse errorResponse = errorHandler.handleUnavailableBookingException(exception);
@@ -501,45 +654,48 @@ public class BookingServiceImplTest {
 
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(bookingRepository.getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class)))
-                .thenReturn(List.of(booking));
+        when(bookingRepository.getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(booking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Current", owner.getId());
+        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Current", owner.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
-        verify(bookingRepository, Mockito.times(1)).getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, Mockito.times(1)).getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
     public void getBookingsByItemOwnerIdWhenThereAreNoBookingsTest() {
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(bookingRepository.getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class)))
+        when(bookingRepository.getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
                 .thenReturn(null);
 
-        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Current", owner.getId());
+        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Current", owner.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(), result);
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
-        verify(bookingRepository, Mockito.times(1)).getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, Mockito.times(1)).getCurrentBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
     public void getBookingsByItemOwnerIdWhenUserExistsAndStateIsPastTest() {
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(bookingRepository.getPastBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class)))
-                .thenReturn(List.of(appvovedBooking));
+        when(bookingRepository.getPastBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(appvovedBooking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Past", owner.getId());
+        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Past", owner.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
-        verify(bookingRepository, Mockito.times(1)).getPastBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, Mockito.times(1)).getPastBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -564,15 +720,16 @@ public class BookingServiceImplTest {
 
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(bookingRepository.getFutureBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class)))
-                .thenReturn(List.of(booking));
+        when(bookingRepository.getFutureBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(booking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Future", owner.getId());
+        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("Future", owner.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
-        verify(bookingRepository, Mockito.times(1)).getFutureBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class));
+        verify(bookingRepository, Mockito.times(1)).getFutureBookingsByOwnerIdOrderByStartDesc(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -588,15 +745,16 @@ public class BookingServiceImplTest {
 
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class)))
-                .thenReturn(List.of(notAppvovedBooking));
+        when(bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(notAppvovedBooking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("WAITING", owner.getId());
+        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("WAITING", owner.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
-        verify(bookingRepository, Mockito.times(1)).getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class));
+        verify(bookingRepository, Mockito.times(1)).getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -621,30 +779,32 @@ public class BookingServiceImplTest {
 
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class)))
-                .thenReturn(List.of(booking));
+        when(bookingRepository.getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(booking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("REJECTED", owner.getId());
+        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("REJECTED", owner.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
-        verify(bookingRepository, Mockito.times(1)).getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class));
+        verify(bookingRepository, Mockito.times(1)).getBookingsByOwnerIdAndStatusOrderByStartDesc(anyLong(), any(BookingStatus.class), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
     public void getBookingsByItemOwnerIdWhenUserExistsAndStateIsDefaultTest() {
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(bookingRepository.getAllBookingsByOwnerIdOrderByStartDesc(owner.getId()))
-                .thenReturn(List.of(appvovedBooking));
+        when(bookingRepository.getAllBookingsByOwnerIdOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(toBookingRow(appvovedBooking)));
 
-        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("ALL", owner.getId());
+        List<BookingResponse> result = bookingService.getBookingsByItemOwnerId("ALL", owner.getId(), null, 10)
+                .getBookings();
 
         assertNotNull(result);
         assertEquals(List.of(bookingResponse), result);
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
-        verify(bookingRepository, Mockito.times(1)).getAllBookingsByOwnerIdOrderByStartDesc(owner.getId());
+        verify(bookingRepository, Mockito.times(1)).getAllBookingsByOwnerIdOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), anyLong(), any(Limit.class));
     }
 
     @Test
@@ -653,7 +813,7 @@ public class BookingServiceImplTest {
                 .thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
-                () -> bookingService.getBookingsByItemOwnerId("ALL", owner.getId()));
+                () -> bookingService.getBookingsByItemOwnerId("ALL", owner.getId(), null, 10));
 
         ErrorHandler errorHandler = new ErrorHandler();
         ErrorResponse errorResponse = errorHandler.handleNotFoundException(exception);
@@ -669,7 +829,7 @@ public class BookingServiceImplTest {
                 .thenReturn(Optional.of(owner));
 
         UnavailableBookingException exception = assertThrows(UnavailableBookingException.class,
-                () -> bookingService.getBookingsByItemOwnerId("Incorrect_State", owner.getId()));
+                () -> bookingService.getBookingsByItemOwnerId("Incorrect_State", owner.getId(), null, 10));
 
         ErrorHandler errorHandler = new ErrorHandler();
         ErrorResponse errorResponse = errorHandler.handleUnavailableBookingException(exception);
@@ -678,4 +838,51 @@ public class BookingServiceImplTest {
 
         verify(userRepository, Mockito.times(1)).findById(owner.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getBookingsByBookerIdWhenThereIsNextPageTest() {
+        Booking nextPageBooking = Booking.builder()
+                .id(3L)
+                .start(appvovedBooking.getStart().minusDays(1))
+                .end(appvovedBooking.getEnd().minusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.APPROVED)
+                .build();
+
+        when(userRepository.findById(booker.getId()))
+                .thenReturn(Optional.of(booker));
+        when(bookingRepository.findByBookerIdOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), anyLong(),
+                eq(Limit.of(2))))
+                .thenReturn(List.of(toBookingRow(appvovedBooking), toBookingRow(nextPageBooking)));
+
+        BookingPage result = bookingService.getBookingsByBookerId("ALL", booker.getId(), null, 1);
+
+        assertEquals(List.of(bookingResponse), result.getBookings());
+        assertNotNull(result.getNextCursor());
+
+        BookingCursor nextCursor = BookingCursor.decode(result.getNextCursor());
+
+        assertEquals(appvovedBooking.getStart(), nextCursor.getStart());
+        assertEquals(appvovedBooking.getId(), nextCursor.getId());
+    }
+
+    @Test
+    public void getBookingsByBookerIdWhenCursorIsIncorrectTest() {
+        when(userRepository.findById(booker.getId()))
+                .thenReturn(Optional.of(booker));
+
+        UnavailableBookingException exception = assertThrows(UnavailableBookingException.class,
+                () -> bookingService.getBookingsByBookerId("ALL", booker.getId(), "incorrect_cursor", 10));
+
+        assertEquals("Некорректный курсор постраничной выдачи бронирований", exception.getMessage());
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private static BookingRow toBookingRow(Booking booking) {
+        return new BookingRow(booking.getId(), booking.getStart(), booking.getEnd(), booking.getStatus(),
+                booking.getItem().getId(), booking.getItem().getName(), booking.getItem().getDescription(),
+                booking.getItem().getAvailable(), null, booking.getBooker().getId(),
+                booking.getBooker().getName(), booking.getBooker().getEmail());
+    }
+}
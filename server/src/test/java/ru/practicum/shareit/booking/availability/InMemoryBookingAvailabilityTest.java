@@ -0,0 +1,247 @@
+package ru.practicum.shareit.booking.availability;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.item.Item;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class InMemoryBookingAvailabilityTest {
+
+    static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @InjectMocks
+    InMemoryBookingAvailability bookingAvailability;
+
+    @Mock
+    BookingRepository bookingRepository;
+
+    @BeforeEach
+    public void setUp() {
+        bookingAvailability.rebuild();
+    }
+
+    @Test
+    public void isBookedUsesHalfOpenIntervalsTest() {
+        bookingAvailability.add(makeBooking(1L, 1L, 10, 20));
+
+        assertTrue(bookingAvailability.isBooked(1L, at(15), at(16)));
+        assertTrue(bookingAvailability.isBooked(1L, at(5), at(11)));
+        assertTrue(bookingAvailability.isBooked(1L, at(19), at(30)));
+        assertFalse(bookingAvailability.isBooked(1L, at(0), at(10)));
+        assertFalse(bookingAvailability.isBooked(1L, at(20), at(30)));
+        assertFalse(bookingAvailability.isBooked(2L, at(15), at(16)));
+    }
+
+    @Test
+    public void longBookingCoversLaterShortOnesTest() {
+        bookingAvailability.add(makeBooking(1L, 1L, 0, 100));
+        bookingAvailability.add(makeBooking(2L, 1L, 10, 20));
+        bookingAvailability.add(makeBooking(3L, 1L, 30, 40));
+
+        assertTrue(bookingAvailability.isBooked(1L, at(50), at(60)));
+        assertFalse(bookingAvailability.isBooked(1L, at(100), at(110)));
+    }
+
+    @Test
+    public void rebuildMatchesBruteForceTest() {
+        Random random = new Random(7);
+        List<BookingIntervalView> bookings = new ArrayList<>();
+        for (long id = 1; id <= 20_000; id++) {
+            int start = random.nextInt(10_000);
+            bookings.add(makeInterval(id, 1 + random.nextInt(5_000), start, start + 1 + random.nextInt(48)));
+        }
+        when(bookingRepository.findAllIntervals()).thenReturn(bookings);
+
+        bookingAvailability.rebuild();
+
+        for (int i = 0; i < 5_000; i++) {
+            long itemId = 1 + random.nextInt(5_000);
+            int from = random.nextInt(10_000);
+            int to = from + 1 + random.nextInt(48);
+            boolean expected = bookings.stream().anyMatch(booking -> booking.getItemId() == itemId
+                    && booking.getStartTime().isBefore(at(to)) && booking.getEndTime().isAfter(at(from)));
+            assertEquals(expected, bookingAvailability.isBooked(itemId, at(from), at(to)));
+        }
+    }
+
+    @Test
+    public void subSecondBoundariesAreKeptTest() {
+        LocalDateTime start = at(10).plusNanos(250_000_000);
+        LocalDateTime end = at(20).plusNanos(750_000_000);
+        bookingAvailability.add(Booking.builder()
+                .id(1L)
+                .item(Item.builder().id(1L).build())
+                .start(start)
+                .end(end)
+                .build());
+
+        assertFalse(bookingAvailability.isBooked(1L, at(9), start));
+        assertTrue(bookingAvailability.isBooked(1L, at(9), start.plusNanos(1_000)));
+        assertTrue(bookingAvailability.isBooked(1L, at(20).plusNanos(500_000_000), at(21)));
+        assertFalse(bookingAvailability.isBooked(1L, end, at(21)));
+        assertEquals(List.of(new BookedPeriod(start, end)),
+                bookingAvailability.findBookedPeriods(List.of(1L), at(0), at(30)).get(1L));
+    }
+
+    @Test
+    public void isBookedFallsBackToDatabaseUntilReadyTest() {
+        InMemoryBookingAvailability notReady = new InMemoryBookingAvailability(bookingRepository);
+        when(bookingRepository.existsByItemIdAndEndAfterAndStartBefore(1L, at(10), at(20))).thenReturn(true);
+
+        assertTrue(notReady.isBooked(1L, at(10), at(20)));
+    }
+
+    @Test
+    public void bookingAddedDuringRebuildIsKeptTest() {
+        when(bookingRepository.findAllIntervals()).thenAnswer(invocation -> {
+            bookingAvailability.add(makeBooking(2L, 1L, 30, 40));
+            return List.of(makeInterval(1L, 1L, 10, 20));
+        });
+
+        bookingAvailability.rebuild();
+
+        assertTrue(bookingAvailability.isBooked(1L, at(10), at(20)));
+        assertTrue(bookingAvailability.isBooked(1L, at(30), at(40)));
+        assertEquals(2, bookingAvailability.findBookedPeriods(List.of(1L), at(0), at(50)).get(1L).size());
+    }
+
+    @Test
+    public void rolledBackBookingIsRemovedTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            bookingAvailability.add(makeBooking(1L, 1L, 10, 20));
+            assertTrue(bookingAvailability.isBooked(1L, at(10), at(20)));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization ->
+                            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertFalse(bookingAvailability.isBooked(1L, at(10), at(20)));
+    }
+
+    @Test
+    public void removeItemAndUserTest() {
+        bookingAvailability.add(makeBooking(1L, 1L, 10, 20));
+        bookingAvailability.add(makeBooking(2L, 2L, 10, 20));
+        when(bookingRepository.findIntervalsByUserId(5L)).thenReturn(List.of(makeInterval(2L, 2L, 10, 20)));
+
+        bookingAvailability.removeItem(1L);
+        bookingAvailability.removeUser(5L);
+
+        assertFalse(bookingAvailability.isBooked(1L, at(10), at(20)));
+        assertFalse(bookingAvailability.isBooked(2L, at(10), at(20)));
+    }
+
+    @Test
+    public void findBookedPeriodsMatchesBruteForceTest() {
+        Random random = new Random(11);
+        List<BookingIntervalView> bookings = new ArrayList<>();
+        for (long id = 1; id <= 5_000; id++) {
+            int start = random.nextInt(2_000);
+            bookings.add(makeInterval(id, 1 + random.nextInt(50), start, start + 1 + random.nextInt(96)));
+        }
+        when(bookingRepository.findAllIntervals()).thenReturn(bookings);
+
+        bookingAvailability.rebuild();
+
+        for (int i = 0; i < 1_000; i++) {
+            long itemId = 1 + random.nextInt(50);
+            int from = random.nextInt(2_000);
+            int to = from + 1 + random.nextInt(200);
+            List<BookedPeriod> expected = bookings.stream()
+                    .filter(booking -> booking.getItemId() == itemId
+                            && booking.getStartTime().isBefore(at(to)) && booking.getEndTime().isAfter(at(from)))
+                    .sorted(Comparator.comparing(BookingIntervalView::getStartTime))
+                    .map(booking -> new BookedPeriod(booking.getStartTime(), booking.getEndTime()))
+                    .toList();
+            List<BookedPeriod> actual = bookingAvailability.findBookedPeriods(List.of(itemId), at(from), at(to))
+                    .getOrDefault(itemId, List.of());
+            assertEquals(new HashSet<>(expected), new HashSet<>(actual));
+            assertEquals(expected.stream().map(BookedPeriod::getStart).toList(),
+                    actual.stream().map(BookedPeriod::getStart).toList());
+        }
+    }
+
+    @Test
+    public void isBookedDoesNotAllocateTest() {
+        for (long id = 1; id <= 1_000; id++) {
+            bookingAvailability.add(makeBooking(id, id % 100 + 1, (int) id, (int) id + 2));
+        }
+        LocalDateTime from = at(500);
+        LocalDateTime to = at(510);
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 100_000; i++) {
+            bookingAvailability.isBooked(i % 100 + 1, from, to);
+        }
+
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            bookingAvailability.isBooked(i % 100 + 1, from, to);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertTrue(allocated < 1024, "Выделено байт: " + allocated);
+    }
+
+    private static Booking makeBooking(long id, long itemId, int startHour, int endHour) {
+        return Booking.builder()
+                .id(id)
+                .item(Item.builder().id(itemId).build())
+                .start(at(startHour))
+                .end(at(endHour))
+                .build();
+    }
+
+    private static BookingIntervalView makeInterval(long id, long itemId, int startHour, int endHour) {
+        return new BookingIntervalView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getItemId() {
+                return itemId;
+            }
+
+            @Override
+            public LocalDateTime getStartTime() {
+                return at(startHour);
+            }
+
+            @Override
+            public LocalDateTime getEndTime() {
+                return at(endHour);
+            }
+        };
+    }
+
+    private static LocalDateTime at(int hour) {
+        return BASE.plusHours(hour);
+    }
+}
@@ -0,0 +1,124 @@
+package ru.practicum.shareit.booking.lock;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(16)
+@Fork(1)
+public class ItemLockContentionBenchmark {
+
+    static final int ITEM_COUNT = 1000;
+    static final int SAMPLE_COUNT = 1 << 16;
+    static final long DATABASE_ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    @Param({"global", "striped", "optimistic"})
+    String strategy;
+
+    @Param({"0.0", "1.2"})
+    double popularitySkew;
+
+    int[] itemSamples;
+    AtomicLongArray itemVersions;
+    ReentrantLock globalLock;
+    StripedItemLockManager stripedLocks;
+
+    @Setup
+    public void setUp() {
+        itemSamples = zipfSamples(popularitySkew);
+        itemVersions = new AtomicLongArray(ITEM_COUNT);
+        globalLock = new ReentrantLock();
+        stripedLocks = new StripedItemLockManager();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int position = new Random().nextInt(SAMPLE_COUNT);
+
+        int next(int[] samples) {
+            position = (position + 1) & (SAMPLE_COUNT - 1);
+            return samples[position];
+        }
+    }
+
+    @Benchmark
+    public long createBooking(Cursor cursor) {
+        int itemId = cursor.next(itemSamples);
+        return switch (strategy) {
+            case "global" -> createUnderGlobalLock(itemId);
+            case "striped" -> createUnderStripedLock(itemId);
+            default -> createOptimistically(itemId);
+        };
+    }
+
+    private long createUnderGlobalLock(int itemId) {
+        globalLock.lock();
+        try {
+            return checkAndInsert(itemId);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+
+    private long createUnderStripedLock(int itemId) {
+        stripedLocks.lock(itemId);
+        try {
+            return checkAndInsert(itemId);
+        } finally {
+            stripedLocks.unlock(itemId);
+        }
+    }
+
+    private long createOptimistically(int itemId) {
+        while (true) {
+            long version = itemVersions.get(itemId);
+            LockSupport.parkNanos(DATABASE_ROUND_TRIP_NANOS);
+            if (itemVersions.compareAndSet(itemId, version, version + 1)) {
+                return version + 1;
+            }
+        }
+    }
+
+    private long checkAndInsert(int itemId) {
+        long version = itemVersions.get(itemId);
+        LockSupport.parkNanos(DATABASE_ROUND_TRIP_NANOS);
+        itemVersions.set(itemId, version + 1);
+        return version + 1;
+    }
+
+    private static int[] zipfSamples(double skew) {
+        double[] cumulative = new double[ITEM_COUNT];
+        double total = 0;
+        for (int rank = 0; rank < ITEM_COUNT; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+        Random random = new Random(42);
+        int[] samples = new int[SAMPLE_COUNT];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            samples[i] = index >= 0 ? index : -index - 1;
+        }
+        return samples;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ItemLockContentionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.booking.lock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StripedItemLockManagerTest {
+
+    private final StripedItemLockManager lockManager = new StripedItemLockManager();
+
+    @Test
+    public void sameItemIsSerializedTest() throws Exception {
+        lockManager.lock(1L);
+        CountDownLatch acquired = new CountDownLatch(1);
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+            lockManager.lock(1L);
+            acquired.countDown();
+            lockManager.unlock(1L);
+        });
+
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        lockManager.unlock(1L);
+        waiter.get(5, TimeUnit.SECONDS);
+        assertEquals(0, lockManager.activeStripes());
+    }
+
+    @Test
+    public void differentItemsDoNotContendTest() throws Exception {
+        lockManager.lock(1L);
+
+        CompletableFuture.runAsync(() -> {
+            lockManager.lock(2L);
+            lockManager.unlock(2L);
+        }).get(1, TimeUnit.SECONDS);
+
+        lockManager.unlock(1L);
+        assertEquals(0, lockManager.activeStripes());
+    }
+
+    @Test
+    public void lockItemIsReleasedAfterTransactionCompletionTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            lockManager.lockItem(1L);
+            lockManager.lockItem(1L);
+            assertEquals(1, lockManager.activeStripes());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(0, lockManager.activeStripes());
+    }
+
+    @Test
+    public void lockItemOutsideTransactionTest() {
+        assertThrows(IllegalStateException.class, () -> lockManager.lockItem(1L));
+    }
+}
@@ -14,7 +14,9 @@ import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
 
 @DataJpaTest
@@ -86,4 +88,74 @@ public class CommentRepositoryTest {
         assertEquals(1, result.size());
         assertEquals(comment, result.getFirst());
     }
+
+    @Test
+    public void findByItemIdInWithAuthorTest() {
+        User owner = User.builder()
+                .name("user1")
+                .email("user1@mail.ru")
+                .build();
+
+        User author = User.builder()
+                .name("user2")
+                .email("user2@mail.ru")
+                .build();
+
+        Item firstItem = Item.builder()
+                .name("item1")
+                .description("item1_description")
+                .available(true)
+                .owner(owner)
+                .build();
+
+        Item secondItem = Item.builder()
+                .name("item2")
+                .description("item2_description")
+                .available(true)
+                .owner(owner)
+                .build();
+
+        Item thirdItem = Item.builder()
+                .name("item3")
+                .description("item3_description")
+                .available(true)
+                .owner(owner)
+                .build();
+
+        Comment firstComment = Comment.builder()
+                .text("Comment1")
+                .item(firstItem)
+                .author(author)
+                .created(LocalDateTime.now())
+                .build();
+
+        Comment secondComment = Comment.builder()
+                .text("Comment2")
+                .item(secondItem)
+                .author(author)
+                .created(LocalDateTime.now())
+                .build();
+
+        Comment thirdComment = Comment.builder()
+                .text("Comment3")
+                .item(thirdItem)
+                .author(author)
+                .created(LocalDateTime.now())
+                .build();
+
+        userRepository.save(owner);
+        userRepository.save(author);
+        Item savedFirstItem = itemRepository.save(firstItem);
+        Item savedSecondItem = itemRepository.save(secondItem);
+        itemRepository.save(thirdItem);
+        commentRepository.save(firstComment);
+        commentRepository.save(secondComment);
+        commentRepository.save(thirdComment);
+
+        List<Comment> result = commentRepository.findByItemIdInWithAuthor(Set.of(savedFirstItem.getId(),
+                savedSecondItem.getId()));
+
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(firstComment, secondComment)));
+    }
 }
\ No newline at end of file
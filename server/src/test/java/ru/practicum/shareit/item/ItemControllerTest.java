@@ -8,13 +8,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.item.availabilityDto.AvailabilityPeriod;
+import ru.practicum.shareit.item.availabilityDto.ItemAvailabilityResponse;
 import ru.practicum.shareit.item.commentDto.CommentResponse;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
+import ru.practicum.shareit.item.importDto.ItemImportError;
+import ru.practicum.shareit.item.importDto.ItemImportReport;
 import ru.practicum.shareit.item.itemDto.CreateItemRequest;
 import ru.practicum.shareit.item.itemDto.ItemInfoResponse;
 import ru.practicum.shareit.item.itemDto.ItemResponse;
 import ru.practicum.shareit.item.itemDto.UpdateItemRequest;
 import ru.practicum.shareit.user.User;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -66,6 +71,29 @@ public class ItemControllerTest {
         verify(itemService, Mockito.times(1)).createItem(createItemRequest, user.getId());
     }
 
+    @Test
+    public void importItemsTest() throws Exception {
+        String body = "name,description,available\nitem1,item1_description,true\nitem2,,true\n";
+        ItemImportReport report = new ItemImportReport(1, 1,
+                List.of(new ItemImportError(3L, "Описание вещи не может быть пустым")), false);
+
+        when(itemService.importItems(eq(1L), eq("csv"), any(InputStream.class)))
+                .thenReturn(report);
+
+        mvc.perform(post("/items/import")
+                        .param("format", "csv")
+                        .content(body.getBytes(StandardCharsets.UTF_8))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(USER_ID_HEADER, 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3L))
+                .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        verify(itemService, Mockito.times(1)).importItems(eq(1L), eq("csv"), any(InputStream.class));
+    }
+
     @Test
     public void getAllItemsByUserIdTest() throws Exception {
         User owner = new User(1L, "user1", "user1@mail.ru");
@@ -114,6 +142,49 @@ public class ItemControllerTest {
         verify(itemService, Mockito.times(1)).getItemById(item.getId());
     }
 
+    @Test
+    public void getItemAvailabilityTest() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(3);
+        ItemAvailabilityResponse response = new ItemAvailabilityResponse(1L, from.format(FORMATTER),
+                to.format(FORMATTER),
+                List.of(new AvailabilityPeriod(from.plusDays(1).format(FORMATTER), from.plusDays(2).format(FORMATTER))),
+                List.of(new AvailabilityPeriod(from.format(FORMATTER), from.plusDays(1).format(FORMATTER)),
+                        new AvailabilityPeriod(from.plusDays(2).format(FORMATTER), to.format(FORMATTER))));
+
+        when(itemService.getItemAvailability(1L, from, to))
+                .thenReturn(response);
+
+        mvc.perform(get("/items/{itemId}/availability", 1L)
+                        .param("from", from.format(FORMATTER))
+                        .param("to", to.format(FORMATTER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId").value(1L))
+                .andExpect(jsonPath("$.busy[0].start").value(from.plusDays(1).format(FORMATTER)))
+                .andExpect(jsonPath("$.free.length()").value(2))
+                .andExpect(jsonPath("$.free[1].end").value(to.format(FORMATTER)));
+
+        verify(itemService, Mockito.times(1)).getItemAvailability(1L, from, to);
+    }
+
+    @Test
+    public void getItemsAvailabilityTest() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+
+        when(itemService.getItemsAvailability(List.of(2L, 1L), from, to))
+                .thenReturn(List.of(new ItemAvailabilityResponse(2L, null, null, List.of(), List.of()),
+                        new ItemAvailabilityResponse(1L, null, null, List.of(), List.of())));
+
+        mvc.perform(get("/items/availability")
+                        .param("ids", "2,1")
+                        .param("from", from.format(FORMATTER))
+                        .param("to", to.format(FORMATTER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemId").value(2L))
+                .andExpect(jsonPath("$[1].itemId").value(1L));
+    }
+
     @Test
     public void searchItemsTest() throws Exception {
         String searchText = "item";
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
@@ -116,7 +117,7 @@ public class ItemRepositoryTest {
 
         assertEquals(2, allItems.size());
 
-        List<Item> foundItemsByOwnerId = itemRepository.findByOwnerId(savedOwner.getId());
+        List<Item> foundItemsByOwnerId = itemRepository.findByOwnerIdOrderById(savedOwner.getId());
 
         assertEquals(1, foundItemsByOwnerId.size());
         assertEquals(savedOwner.getId(), foundItemsByOwnerId.getFirst().getOwner().getId());
@@ -181,7 +182,7 @@ public class ItemRepositoryTest {
 
     @Test
     public void searchItemsTest() {
-        List<Item> items = itemRepository.searchItems("компьютер");
+        List<Item> items = itemRepository.searchItems("компьютер", Limit.unlimited());
 
         assertTrue(items.isEmpty());
 
@@ -211,13 +212,61 @@ public class ItemRepositoryTest {
         Item savedFirstAvailableItem = itemRepository.save(firstAvailableItem);
         Item savedSecondAvailableItem = itemRepository.save(secondAvailableItem);
         Item savedThirdAnavailableItem = itemRepository.save(thirdAnavailableItem);
-        List<Item> foundItemsFirstScenario = itemRepository.searchItems("КоМп");
+        List<Item> foundItemsFirstScenario = itemRepository.searchItems("КоМп", Limit.unlimited());
 
         assertEquals(2, foundItemsFirstScenario.size());
         assertTrue(foundItemsFirstScenario.containsAll(searchItems));
 
-        List<Item> foundItemsSecondScenario = itemRepository.searchItems("");
+        List<Item> foundItemsSecondScenario = itemRepository.searchItems("", Limit.unlimited());
 
         assertEquals(0, foundItemsSecondScenario.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void searchItemsRankingAndLimitTest() {
+        userRepository.save(owner);
+        Item descriptionMatch = itemRepository.save(Item.builder()
+                .name("набор")
+                .description("дрель и биты")
+                .available(true)
+                .owner(owner)
+                .build());
+        Item nameContainsMatch = itemRepository.save(Item.builder()
+                .name("аккумуляторная дрель")
+                .description("item_description")
+                .available(true)
+                .owner(owner)
+                .build());
+        Item namePrefixMatch = itemRepository.save(Item.builder()
+                .name("Дрель ударная")
+                .description("item_description")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        List<Item> foundItems = itemRepository.searchItems("дрель", Limit.unlimited());
+
+        assertEquals(List.of(namePrefixMatch.getId(), nameContainsMatch.getId(), descriptionMatch.getId()),
+                foundItems.stream().map(Item::getId).toList());
+
+        List<Item> limitedItems = itemRepository.searchItems("дрель", Limit.of(2));
+
+        assertEquals(List.of(namePrefixMatch.getId(), nameContainsMatch.getId()),
+                limitedItems.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    public void findAllByIdForUpdateReturnsItemsInIdOrderTest() {
+        userRepository.save(owner);
+        userRepository.save(requester);
+        itemRequestRepository.save(firstItemRequest);
+        Item savedFirstItem = itemRepository.save(firstItem);
+        Item savedThirdItem = itemRepository.save(thirdItem);
+
+        List<Item> foundItems = itemRepository.findAllByIdForUpdate(Set.of(savedThirdItem.getId(),
+                savedFirstItem.getId(), -1L));
+
+        assertEquals(List.of(savedFirstItem.getId(), savedThirdItem.getId()),
+                foundItems.stream().map(Item::getId).toList());
+    }
+}
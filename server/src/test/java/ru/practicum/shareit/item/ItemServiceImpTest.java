@@ -9,14 +9,21 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.availability.BookedPeriod;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
 import ru.practicum.shareit.booking.dto.BookingShortResponse;
+import ru.practicum.shareit.booking.dto.BookingShortView;
 import ru.practicum.shareit.exception.*;
+import ru.practicum.shareit.item.availabilityDto.AvailabilityPeriod;
+import ru.practicum.shareit.item.availabilityDto.ItemAvailabilityResponse;
 import ru.practicum.shareit.item.commentDto.CommentResponse;
 import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
 import ru.practicum.shareit.item.itemDto.*;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
@@ -28,6 +35,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
+import static ru.practicum.shareit.constants.Constants.MAX_AVAILABILITY_ITEMS;
+import static ru.practicum.shareit.constants.Constants.SEARCH_RESULTS_LIMIT;
 
 @ExtendWith(MockitoExtension.class)
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -51,6 +60,12 @@ public class ItemServiceImpTest {
     @Mock
     CommentRepository commentRepository;
 
+    @Mock
+    ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    BookingAvailability bookingAvailability;
+
     User owner;
     CreateItemRequest createItemRequest;
     Item item;
@@ -302,11 +317,13 @@ public class ItemServiceImpTest {
 
         when(userRepository.findById(owner.getId()))
                 .thenReturn(Optional.of(owner));
-        when(itemRepository.findByOwnerId(owner.getId()))
+        when(itemRepository.findByOwnerIdOrderById(owner.getId()))
                 .thenReturn(List.of(item, anotherItem));
-        when(bookingRepository.findByItemIdIn(Set.of(item.getId(), anotherItem.getId())))
-                .thenReturn(List.of(bookingOfItem, bookingOfAnotherItem));
-        when(commentRepository.findByItemWithAuthor(any(Item.class)))
+        when(bookingRepository.findLastAndNextBookingsByItemIdIn(eq(List.of(item.getId(), anotherItem.getId())),
+                any(LocalDateTime.class)))
+                .thenReturn(List.of(toBookingShortView(bookingOfItem, true),
+                        toBookingShortView(bookingOfAnotherItem, false)));
+        when(commentRepository.findByItemIdInWithAuthor(List.of(item.getId(), anotherItem.getId())))
                 .thenReturn(List.of());
 
         List<ItemInfoResponse> result = itemService.getAllItemsByUserId(owner.getId());
@@ -314,9 +331,10 @@ public class ItemServiceImpTest {
         assertNotNull(result);
         assertEquals(List.of(itemInfoResponse, anotherItemInfoResponse), result);
         verify(userRepository).findById(owner.getId());
-        verify(itemRepository).findByOwnerId(owner.getId());
-        verify(bookingRepository).findByItemIdIn(anySet());
-        verify(commentRepository, Mockito.times(2)).findByItemWithAuthor(any(Item.class));
+        verify(itemRepository).findByOwnerIdOrderById(owner.getId());
+        verify(bookingRepository).findLastAndNextBookingsByItemIdIn(anyList(), any(LocalDateTime.class));
+        verify(commentRepository, Mockito.times(1)).findByItemIdInWithAuthor(anyList());
+        verify(commentRepository, never()).findByItemWithAuthor(any(Item.class));
     }
 
     @Test
@@ -383,28 +401,24 @@ public class ItemServiceImpTest {
     public void searchItemsTest() {
         String searchText = "searchText";
 
-        when(itemRepository.searchItems(searchText))
-                .thenReturn(List.of(item));
+        when(itemSearchIndex.search(searchText, SEARCH_RESULTS_LIMIT))
+                .thenReturn(List.of(itemResponse));
 
         List<ItemResponse> result = itemService.searchItems(searchText);
 
         assertNotNull(result);
         assertEquals(List.of(itemResponse), result);
-        verify(itemRepository).searchItems(anyString());
+        verify(itemSearchIndex).search(anyString(), anyInt());
+        verifyNoInteractions(itemRepository);
     }
 
     @Test
-    public void searchItemsWhenThereAreNoItemsTest() {
-        String searchText = "searchText";
-
-        when(itemRepository.searchItems(searchText))
-                .thenReturn(null);
-
-        List<ItemResponse> result = itemService.searchItems(searchText);
+    public void searchItemsWhenSearchTextIsEmptyTest() {
+        List<ItemResponse> result = itemService.searchItems("");
 
         assertNotNull(result);
-        assertEquals(List.of(), result);
-        verify(itemRepository).searchItems(anyString());
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(itemSearchIndex);
     }
 
     @Test
@@ -439,6 +453,7 @@ public class ItemServiceImpTest {
         verify(userRepository).findById(owner.getId());
         verify(itemRepository).findById(item.getId());
         verify(itemRepository).save(any(Item.class));
+        verify(itemSearchIndex).index(item);
     }
 
     @Test
@@ -626,11 +641,87 @@ public class ItemServiceImpTest {
         verify(itemRepository, never()).save(any(Item.class));
     }
 
+    @Test
+    public void getItemAvailabilityMergesBusyPeriodsAndComputesFreeOnesTest() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(10);
+        List<BookedPeriod> bookedPeriods = List.of(
+                new BookedPeriod(from.minusDays(1), from.plusDays(1)),
+                new BookedPeriod(from.plusDays(3), from.plusDays(5)),
+                new BookedPeriod(from.plusDays(4), from.plusDays(6)),
+                new BookedPeriod(from.plusDays(6), from.plusDays(7)),
+                new BookedPeriod(from.plusDays(9), from.plusDays(12)));
+
+        when(itemRepository.findIdsByIdIn(Set.of(item.getId())))
+                .thenReturn(Set.of(item.getId()));
+        when(bookingAvailability.findBookedPeriods(Set.of(item.getId()), from, to))
+                .thenReturn(Map.of(item.getId(), bookedPeriods));
+
+        ItemAvailabilityResponse response = itemService.getItemAvailability(item.getId(), from, to);
+
+        assertEquals(item.getId(), response.getItemId());
+        assertEquals(List.of(
+                new AvailabilityPeriod(from.format(FORMATTER), from.plusDays(1).format(FORMATTER)),
+                new AvailabilityPeriod(from.plusDays(3).format(FORMATTER), from.plusDays(7).format(FORMATTER)),
+                new AvailabilityPeriod(from.plusDays(9).format(FORMATTER), to.format(FORMATTER))),
+                response.getBusy());
+        assertEquals(List.of(
+                new AvailabilityPeriod(from.plusDays(1).format(FORMATTER), from.plusDays(3).format(FORMATTER)),
+                new AvailabilityPeriod(from.plusDays(7).format(FORMATTER), from.plusDays(9).format(FORMATTER))),
+                response.getFree());
+    }
+
+    @Test
+    public void getItemsAvailabilityKeepsRequestedOrderTest() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+
+        when(itemRepository.findIdsByIdIn(Set.of(2L, 1L)))
+                .thenReturn(Set.of(1L, 2L));
+        when(bookingAvailability.findBookedPeriods(Set.of(2L, 1L), from, to))
+                .thenReturn(Map.of());
+
+        List<ItemAvailabilityResponse> responses = itemService.getItemsAvailability(List.of(2L, 1L, 2L), from, to);
+
+        assertEquals(List.of(2L, 1L), responses.stream().map(ItemAvailabilityResponse::getItemId).toList());
+        assertTrue(responses.getFirst().getBusy().isEmpty());
+        assertEquals(List.of(new AvailabilityPeriod(from.format(FORMATTER), to.format(FORMATTER))),
+                responses.getFirst().getFree());
+    }
+
+    @Test
+    public void getItemsAvailabilityWhenItemNotFoundTest() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        when(itemRepository.findIdsByIdIn(Set.of(1L, 2L)))
+                .thenReturn(Set.of(1L));
+
+        assertThrows(NotFoundException.class, () -> itemService.getItemsAvailability(List.of(1L, 2L), from,
+                from.plusDays(1)));
+        verifyNoInteractions(bookingAvailability);
+    }
+
+    @Test
+    public void getItemsAvailabilityWhenPeriodOrIdsAreInvalidTest() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        List<Long> tooManyIds = new ArrayList<>();
+        for (long id = 1; id <= MAX_AVAILABILITY_ITEMS + 1; id++) {
+            tooManyIds.add(id);
+        }
+
+        assertThrows(UnavailableBookingException.class, () -> itemService.getItemAvailability(item.getId(), from,
+                from));
+        assertThrows(UnavailableBookingException.class, () -> itemService.getItemsAvailability(tooManyIds, from,
+                from.plusDays(1)));
+        verifyNoInteractions(itemRepository, bookingAvailability);
+    }
+
     @Test
     public void deleteItemByIdTest() {
         itemService.deleteItemById(item.getId());
 
         verify(itemRepository, Mockito.times(1)).deleteById(item.getId());
+        verify(itemSearchIndex, Mockito.times(1)).remove(item.getId());
     }
 
     @Test
@@ -776,4 +867,17 @@ public class ItemServiceImpTest {
         verify(bookingRepository, Mockito.times(1)).getPastBookingByBookerIdAndItemId(anyLong(), anyLong(), any(LocalDateTime.class));
         verify(commentRepository, never()).save(any(Comment.class));
     }
+
+    private BookingShortView toBookingShortView(Booking booking, boolean lastBooking) {
+        Map<String, Object> view = new HashMap<>();
+        view.put("id", booking.getId());
+        view.put("itemId", booking.getItem().getId());
+        view.put("startTime", booking.getStart());
+        view.put("endTime", booking.getEnd());
+        view.put("bookerId", booking.getBooker().getId());
+        view.put("bookerName", booking.getBooker().getName());
+        view.put("bookerEmail", booking.getBooker().getEmail());
+        view.put("lastBooking", lastBooking);
+        return new SpelAwareProxyProjectionFactory().createProjection(BookingShortView.class, view);
+    }
 }
\ No newline at end of file
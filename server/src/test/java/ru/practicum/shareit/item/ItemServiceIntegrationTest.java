@@ -0,0 +1,213 @@
+package ru.practicum.shareit.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.commentDto.CreateCommentRequest;
+import ru.practicum.shareit.item.importDto.ItemImportError;
+import ru.practicum.shareit.item.importDto.ItemImportReport;
+import ru.practicum.shareit.item.itemDto.ItemInfoResponse;
+import ru.practicum.shareit.item.itemDto.UpdateItemRequest;
+import ru.practicum.shareit.user.User;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.constants.Constants.ITEM_CACHE;
+import static ru.practicum.shareit.constants.Constants.MAX_ITEM_IMPORT_ERRORS;
+
+@Transactional
+@SpringBootTest(
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true",
+        webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ItemServiceIntegrationTest {
+
+    final ItemServiceImpl itemService;
+    final EntityManager em;
+    final EntityManagerFactory emf;
+    final CacheManager cacheManager;
+    final MeterRegistry meterRegistry;
+
+    @Test
+    public void getAllItemsByUserIdRunsFixedNumberOfQueriesTest() {
+        User smallOwner = makeOwnerWithItems("small", 2);
+        User largeOwner = makeOwnerWithItems("large", 20);
+        em.flush();
+        em.clear();
+
+        long smallOwnerQueries = countQueries(smallOwner.getId(), 2);
+        long largeOwnerQueries = countQueries(largeOwner.getId(), 20);
+
+        assertEquals(smallOwnerQueries, largeOwnerQueries);
+    }
+
+    @Test
+    public void getItemByIdIsServedFromCacheTest() {
+        makeOwnerWithItems("cached", 1);
+        Item item = findSingleItem("cached");
+        em.flush();
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        double hitsBefore = cacheHits();
+
+        ItemInfoResponse firstResponse = itemService.getItemById(item.getId());
+        statistics.clear();
+        ItemInfoResponse secondResponse = itemService.getItemById(item.getId());
+
+        assertEquals(firstResponse, secondResponse);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(hitsBefore + 1, cacheHits());
+    }
+
+    @Test
+    public void updateItemEvictsCachedItemTest() {
+        User owner = makeOwnerWithItems("updated", 1);
+        Item item = findSingleItem("updated");
+        em.flush();
+        em.clear();
+        itemService.getItemById(item.getId());
+
+        itemService.updateItem(item.getId(), UpdateItemRequest.builder().name("item_updated").build(), owner.getId());
+
+        assertNull(itemCache().get(item.getId()));
+        assertEquals("item_updated", itemService.getItemById(item.getId()).getName());
+    }
+
+    @Test
+    public void addCommentEvictsCachedItemTest() {
+        makeOwnerWithItems("commented", 1);
+        Item item = findSingleItem("commented");
+        Comment comment = em.createQuery("SELECT c FROM Comment c WHERE c.item.id = :itemId", Comment.class)
+                .setParameter("itemId", item.getId())
+                .getSingleResult();
+        em.flush();
+        em.clear();
+        assertEquals(1, itemService.getItemById(item.getId()).getComments().size());
+
+        itemService.addComment(item.getId(), new CreateCommentRequest("second_comment"), comment.getAuthor().getId());
+
+        assertEquals(2, itemService.getItemById(item.getId()).getComments().size());
+    }
+
+    @Test
+    public void deleteItemByIdEvictsCachedItemTest() {
+        makeOwnerWithItems("deleted", 1);
+        Item item = findSingleItem("deleted");
+        em.flush();
+        em.clear();
+        itemService.getItemById(item.getId());
+
+        itemService.deleteItemById(item.getId());
+
+        assertNull(itemCache().get(item.getId()));
+        assertThrows(NotFoundException.class, () -> itemService.getItemById(item.getId()));
+    }
+
+    @Test
+    public void importItemsInsertsValidRowsInBatchesTest() {
+        User owner = new User(null, "importer", "importer@mail.ru");
+        em.persist(owner);
+        em.flush();
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 1_200; i++) {
+            body.append(String.format("{\"name\":\"imported%d\",\"description\":\"imported%d_description\"," +
+                    "\"available\":true}%n", i, i));
+        }
+        body.append("{\"name\":\"imported\",\"description\":\"\",\"available\":true}\n");
+        body.append("{\"name\":\"imported\",\"description\":\"request\",\"available\":true,\"requestId\":-1}\n");
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ItemImportReport report = itemService.importItems(owner.getId(), "ndjson",
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1_200, report.getImported());
+        assertEquals(List.of(1_201L, 1_202L), report.getErrors().stream().map(ItemImportError::getLine).toList());
+        assertTrue(statistics.getPrepareStatementCount() < 100);
+        assertEquals(1_200L, em.createQuery("SELECT COUNT(i) FROM Item AS i WHERE i.owner.id = :ownerId", Long.class)
+                .setParameter("ownerId", owner.getId())
+                .getSingleResult());
+    }
+
+    @Test
+    public void importItemsKeepsOnlyFirstErrorsTest() {
+        User owner = new User(null, "invalid_importer", "invalid_importer@mail.ru");
+        em.persist(owner);
+        em.flush();
+        String body = "{\"name\":\"\",\"description\":\"\",\"available\":true}\n".repeat(MAX_ITEM_IMPORT_ERRORS + 50);
+
+        ItemImportReport report = itemService.importItems(owner.getId(), "ndjson",
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(0, report.getImported());
+        assertEquals(MAX_ITEM_IMPORT_ERRORS + 50, report.getFailed());
+        assertEquals(MAX_ITEM_IMPORT_ERRORS, report.getErrors().size());
+        assertEquals(1L, report.getErrors().getFirst().getLine());
+        assertTrue(report.getErrorsTruncated());
+    }
+
+    private Item findSingleItem(String prefix) {
+        return em.createQuery("SELECT i FROM Item i WHERE i.owner.name = :ownerName", Item.class)
+                .setParameter("ownerName", prefix + "_owner")
+                .getSingleResult();
+    }
+
+    private Cache itemCache() {
+        return cacheManager.getCache(ITEM_CACHE);
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", ITEM_CACHE)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    private long countQueries(long ownerId, int expectedItems) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        em.clear();
+        statistics.clear();
+
+        List<ItemInfoResponse> result = itemService.getAllItemsByUserId(ownerId);
+
+        assertEquals(expectedItems, result.size());
+        result.forEach(item -> assertEquals(1, item.getComments().size()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User makeOwnerWithItems(String prefix, int itemCount) {
+        User owner = new User(null, prefix + "_owner", prefix + "_owner@mail.ru");
+        em.persist(owner);
+
+        for (int i = 0; i < itemCount; i++) {
+            User author = new User(null, prefix + "_author" + i, prefix + "_author" + i + "@mail.ru");
+            em.persist(author);
+
+            Item item = new Item(null, "item" + i, "item" + i + "_description", true, owner, null);
+            em.persist(item);
+
+            em.persist(new Booking(null, LocalDateTime.now().minusDays(3), LocalDateTime.now().minusDays(2), item,
+                    author, BookingStatus.APPROVED));
+            em.persist(new Comment(null, "comment" + i, item, author, LocalDateTime.now()));
+        }
+        return owner;
+    }
+}
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.item.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.exception.UnavailableBookingException;
+import ru.practicum.shareit.item.itemDto.CreateItemRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void readsNdjsonRowsAndReportsInvalidOnesTest() throws IOException {
+        String body = """
+                {"name":"Дрель","description":"Аккумуляторная","available":true}
+
+                {"name":"","description":"Без названия","available":true}
+                not json
+                {"name":"Пила","description":"Ручная","available":false,"requestId":7}
+                """;
+
+        List<ItemImportRow> rows = readAll(body, ItemImportFormat.NDJSON);
+
+        assertEquals(List.of(1L, 3L, 4L, 5L), rows.stream().map(ItemImportRow::getLine).toList());
+        assertEquals(new CreateItemRequest("Дрель", "Аккумуляторная", true, null), rows.getFirst().getRequest());
+        assertNull(rows.getFirst().getError());
+        assertEquals("Название вещи не может быть пустым", rows.get(1).getError());
+        assertNotNull(rows.get(2).getError());
+        assertEquals(7L, rows.get(3).getRequest().getRequestId());
+    }
+
+    @Test
+    public void readsCsvRowsByHeaderTest() throws IOException {
+        String body = """
+                available,name,description
+                true,Дрель,"Аккумуляторная, с ""кейсом""\"
+                maybe,Пила,Ручная
+                false,"Незакрытая,кавычка
+                true,Лестница,
+                """;
+
+        List<ItemImportRow> rows = readAll(body, ItemImportFormat.CSV);
+
+        assertEquals(4, rows.size());
+        assertEquals(new CreateItemRequest("Дрель", "Аккумуляторная, с \"кейсом\"", true, null),
+                rows.getFirst().getRequest());
+        assertEquals("Поле available должно принимать значение true или false", rows.get(1).getError());
+        assertEquals("Незакрытые кавычки в строке CSV", rows.get(2).getError());
+        assertEquals("Описание вещи не может быть пустым", rows.get(3).getError());
+        assertEquals(5L, rows.get(3).getLine());
+    }
+
+    @Test
+    public void rejectsCsvWithoutRequiredColumnsTest() {
+        String body = "name,description\nДрель,Аккумуляторная\n";
+
+        assertThrows(UnavailableBookingException.class, () -> readAll(body, ItemImportFormat.CSV));
+    }
+
+    @Test
+    public void rejectsTooLongLineWithoutReadingItWholeTest() throws IOException {
+        String body = "{\"name\":\"Дрель\",\"description\":\"" + "д".repeat(10_000) + "\",\"available\":true}\r\n"
+                + "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true}\r\n"
+                + "{\"name\":\"Без перевода строки\",\"description\":\"" + "x".repeat(5_000);
+
+        List<ItemImportRow> rows = readAll(body, ItemImportFormat.NDJSON);
+
+        assertEquals(List.of(1L, 2L, 3L), rows.stream().map(ItemImportRow::getLine).toList());
+        assertEquals("Строка длиннее 4096 символов", rows.getFirst().getError());
+        assertNull(rows.getFirst().getRequest());
+        assertEquals(new CreateItemRequest("Пила", "Ручная", true, null), rows.get(1).getRequest());
+        assertEquals("Строка длиннее 4096 символов", rows.get(2).getError());
+    }
+
+    private List<ItemImportRow> readAll(String body, ItemImportFormat format) throws IOException {
+        List<ItemImportRow> rows = new ArrayList<>();
+        try (ItemImportReader reader = new ItemImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            for (ItemImportRow row = reader.next(); row != null; row = reader.next()) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,152 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.itemDto.ItemResponse;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class InMemoryItemSearchIndexTest {
+
+    @InjectMocks
+    InMemoryItemSearchIndex itemSearchIndex;
+
+    @Mock
+    ItemRepository itemRepository;
+
+    Item drill;
+    Item cordlessDrill;
+    Item toolKit;
+
+    @BeforeEach
+    public void setUp() {
+        drill = Item.builder()
+                .id(1L)
+                .name("Дрель ударная")
+                .description("item1_description")
+                .available(true)
+                .build();
+
+        cordlessDrill = Item.builder()
+                .id(2L)
+                .name("аккумуляторная дрель")
+                .description("item2_description")
+                .available(true)
+                .build();
+
+        toolKit = Item.builder()
+                .id(3L)
+                .name("набор")
+                .description("дрель, биты и отвёртка")
+                .available(true)
+                .build();
+    }
+
+    @Test
+    public void rebuildAndSearchTest() {
+        when(itemRepository.findAllByAvailableTrue())
+                .thenReturn(List.of(toolKit, cordlessDrill, drill));
+
+        itemSearchIndex.rebuild();
+        List<ItemResponse> result = itemSearchIndex.search("ДРЕЛЬ", 10);
+
+        assertEquals(List.of(1L, 2L, 3L), result.stream().map(ItemResponse::getId).toList());
+        verify(itemRepository, times(1)).findAllByAvailableTrue();
+    }
+
+    @Test
+    public void searchByPrefixAndLimitTest() {
+        itemSearchIndex.rebuild();
+        itemSearchIndex.index(drill);
+        itemSearchIndex.index(cordlessDrill);
+        itemSearchIndex.index(toolKit);
+
+        assertEquals(List.of(2L), itemSearchIndex.search("аккум", 10).stream().map(ItemResponse::getId).toList());
+        assertEquals(List.of(1L, 2L), itemSearchIndex.search("дрел", 2).stream().map(ItemResponse::getId).toList());
+        assertEquals(List.of(3L), itemSearchIndex.search("биты дрель", 10).stream().map(ItemResponse::getId).toList());
+        assertTrue(itemSearchIndex.search("молоток", 10).isEmpty());
+        assertTrue(itemSearchIndex.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    public void indexUpdatedAndUnavailableItemTest() {
+        itemSearchIndex.rebuild();
+        itemSearchIndex.index(drill);
+        itemSearchIndex.index(toolKit);
+
+        drill.setName("Перфоратор");
+        itemSearchIndex.index(drill);
+
+        assertEquals(List.of(1L), itemSearchIndex.search("перфоратор", 10).stream().map(ItemResponse::getId).toList());
+        assertEquals(List.of(3L), itemSearchIndex.search("дрель", 10).stream().map(ItemResponse::getId).toList());
+
+        toolKit.setAvailable(false);
+        itemSearchIndex.index(toolKit);
+
+        assertTrue(itemSearchIndex.search("дрель", 10).isEmpty());
+    }
+
+    @Test
+    public void indexAllAppliesBatchOnceAfterCommitTest() {
+        itemSearchIndex.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            itemSearchIndex.indexAll(List.of(drill, cordlessDrill, toolKit));
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+            assertTrue(itemSearchIndex.search("дрель", 10).isEmpty());
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(1L, 2L, 3L),
+                itemSearchIndex.search("дрель", 10).stream().map(ItemResponse::getId).toList());
+    }
+
+    @Test
+    public void removeTest() {
+        itemSearchIndex.rebuild();
+        itemSearchIndex.index(drill);
+        itemSearchIndex.index(cordlessDrill);
+
+        itemSearchIndex.remove(drill.getId());
+        itemSearchIndex.remove(99L);
+
+        assertEquals(List.of(2L), itemSearchIndex.search("дрель", 10).stream().map(ItemResponse::getId).toList());
+    }
+
+    @Test
+    public void searchFallsBackToDatabaseUntilReadyTest() {
+        when(itemRepository.searchItems(eq("дрель"), any(Limit.class))).thenReturn(List.of(drill));
+
+        assertEquals(List.of(1L), itemSearchIndex.search("дрель", 10).stream().map(ItemResponse::getId).toList());
+    }
+
+    @Test
+    public void itemIndexedDuringRebuildIsKeptTest() {
+        when(itemRepository.findAllByAvailableTrue()).thenAnswer(invocation -> {
+            itemSearchIndex.index(toolKit);
+            return List.of(drill);
+        });
+
+        itemSearchIndex.rebuild();
+
+        assertEquals(List.of(1L, 3L), itemSearchIndex.search("дрель", 10).stream().map(ItemResponse::getId).toList());
+    }
+}
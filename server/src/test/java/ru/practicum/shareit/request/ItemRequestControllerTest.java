@@ -11,6 +11,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithItemInfo;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
+import ru.practicum.shareit.request.dto.RequesterDto;
 import ru.practicum.shareit.user.User;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -22,6 +24,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
+import static ru.practicum.shareit.constants.Constants.NEXT_CURSOR_HEADER;
 import static ru.practicum.shareit.constants.Constants.USER_ID_HEADER;
 
 @WebMvcTest(controllers = ItemRequestController.class)
@@ -40,7 +43,8 @@ public class ItemRequestControllerTest {
     public void createItemRequestTest() throws Exception {
         User requester = new User(1L, "user1", "user1@mail.ru");
         ItemRequestCreateDto itemRequestCreateDto = new ItemRequestCreateDto("item_request1_description");
-        ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "item_request1_description", requester,
+        ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "item_request1_description",
+                new RequesterDto(requester.getId(), requester.getName()),
                 FORMATTER.format(LocalDateTime.now()));
 
         when(itemRequestService.createItemRequest(itemRequestCreateDto, requester.getId()))
@@ -56,7 +60,7 @@ public class ItemRequestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id", is(itemRequestDto.getId()), Long.class))
                 .andExpect(jsonPath("$.description", is(itemRequestDto.getDescription())))
-                .andExpect(jsonPath("$.requester", is(itemRequestDto.getRequester()), User.class))
+                .andExpect(jsonPath("$.requester", is(itemRequestDto.getRequester()), RequesterDto.class))
                 .andExpect(jsonPath("$.created", is(itemRequestDto.getCreated())));
 
         verify(itemRequestService, Mockito.times(1)).createItemRequest(itemRequestCreateDto, requester.getId());
@@ -87,11 +91,12 @@ public class ItemRequestControllerTest {
     @Test
     public void getAllItemRequestsTest() throws Exception {
         User requester = new User(1L, "user1", "user1@mail.ru");
-        ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "description", requester,
+        ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "description",
+                new RequesterDto(requester.getId(), requester.getName()),
                 FORMATTER.format(LocalDateTime.now()));
 
-        when(itemRequestService.getAllItemRequests(requester.getId()))
-                .thenReturn(List.of(itemRequestDto));
+        when(itemRequestService.getAllItemRequests(requester.getId(), null, 20))
+                .thenReturn(new ItemRequestPage(List.of(itemRequestDto), "next"));
 
         mvc.perform(get("/requests/all", requester.getId())
                         .header(USER_ID_HEADER, requester.getId())
@@ -100,10 +105,13 @@ public class ItemRequestControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].id").value(1L))
                 .andExpect(jsonPath("$[0].description").value("description"))
-                .andExpect(jsonPath("$[0].requester").value(requester))
-                .andExpect(jsonPath("$[0].created").value(itemRequestDto.getCreated()));
+                .andExpect(jsonPath("$[0].requester.id").value(requester.getId()))
+                .andExpect(jsonPath("$[0].requester.name").value(requester.getName()))
+                .andExpect(jsonPath("$[0].requester.email").doesNotExist())
+                .andExpect(jsonPath("$[0].created").value(itemRequestDto.getCreated()))
+                .andExpect(header().string(NEXT_CURSOR_HEADER, "next"));
 
-        verify(itemRequestService, Mockito.times(1)).getAllItemRequests(requester.getId());
+        verify(itemRequestService, Mockito.times(1)).getAllItemRequests(requester.getId(), null, 20);
     }
 
     @Test
@@ -12,7 +12,7 @@ import ru.practicum.shareit.item.itemDto.ItemInfoForItemRequest;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithItemInfo;
-import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.request.dto.RequesterDto;
 import java.util.ArrayList;
 import java.util.List;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
@@ -37,15 +37,15 @@ public class ItemRequestJsonTest {
 
     @Test
     void testItemRequestDto() throws Exception {
-        User user = User.builder()
+        RequesterDto requester = RequesterDto.builder()
+                .id(1L)
                 .name("user1")
-                .email("user1@mail.ru")
                 .build();
 
         ItemRequestDto itemRequestDto = ItemRequestDto.builder()
                 .id(1L)
                 .description("description")
-                .requester(user)
+                .requester(requester)
                 .created("2025-04-08 12:30")
                 .build();
 
@@ -53,7 +53,9 @@ public class ItemRequestJsonTest {
 
         assertThat(result).extractingJsonPathNumberValue("$.id").isEqualTo(1);
         assertThat(result).extractingJsonPathStringValue("$.description").isEqualTo("description");
+        assertThat(result).extractingJsonPathNumberValue("$.requester.id").isEqualTo(1);
         assertThat(result).extractingJsonPathStringValue("$.requester.name").isEqualTo("user1");
+        assertThat(result).doesNotHaveJsonPath("$.requester.email");
         assertThat(result).extractingJsonPathStringValue("$.created").isEqualTo("2025-04-08 12:30");
     }
 
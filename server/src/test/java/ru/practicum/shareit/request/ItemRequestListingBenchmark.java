@@ -0,0 +1,120 @@
+package ru.practicum.shareit.request;
+
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.RunnerException;
+import org.springframework.data.domain.Limit;
+import ru.practicum.shareit.ServerBenchmarkContext;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.user.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import static ru.practicum.shareit.constants.Constants.FORMATTER;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ItemRequestListingBenchmark {
+
+    static final int USER_COUNT = 50;
+    static final int REQUEST_COUNT = 5_000;
+    static final LocalDateTime FIRST_PAGE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Param({"20", "100"})
+    int pageSize;
+
+    ServerBenchmarkContext context;
+    ItemRequestRepository itemRequestRepository;
+    EntityManager entityManager;
+    long viewerId;
+
+    @Setup
+    public void setUp() {
+        context = ServerBenchmarkContext.start();
+        itemRequestRepository = context.getBean(ItemRequestRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        viewerId = context.inTransaction(status -> seed());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String entityListing() {
+        return context.inReadOnlyTransaction(status -> {
+            List<ItemRequest> requests = entityManager.createQuery("""
+                            SELECT ir
+                            FROM ItemRequest AS ir
+                            JOIN FETCH ir.requester AS r
+                            WHERE ir.requester.id <> :userId
+                            AND (ir.created, ir.id) < (:cursorCreated, :cursorId)
+                            ORDER BY ir.created DESC, ir.id DESC
+                            """, ItemRequest.class)
+                    .setParameter("userId", viewerId)
+                    .setParameter("cursorCreated", FIRST_PAGE)
+                    .setParameter("cursorId", Long.MAX_VALUE)
+                    .setMaxResults(pageSize + 1)
+                    .getResultList();
+            List<EntityItemRequestDto> page = new ArrayList<>(pageSize);
+            for (ItemRequest request : requests.subList(0, Math.min(pageSize, requests.size()))) {
+                page.add(new EntityItemRequestDto(request.getId(), request.getDescription(), request.getRequester(),
+                        FORMATTER.format(request.getCreated())));
+            }
+            return context.write(page);
+        });
+    }
+
+    @Benchmark
+    public String projectionListing() {
+        return context.inReadOnlyTransaction(status -> {
+            List<ItemRequestDto> page = ItemRequestMapper.toListOfItemRequestDto(itemRequestRepository
+                    .findOtherUsersRequestsOrderByCreatedDesc(viewerId, FIRST_PAGE, Long.MAX_VALUE,
+                            Limit.of(pageSize + 1)));
+            return context.write(page.subList(0, Math.min(pageSize, page.size())));
+        });
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class EntityItemRequestDto {
+        Long id;
+        String description;
+        User requester;
+        String created;
+    }
+
+    private long seed() {
+        List<User> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = User.builder()
+                    .name("user" + i)
+                    .email("user" + i + "@mail.ru")
+                    .build();
+            entityManager.persist(user);
+            users.add(user);
+        }
+        LocalDateTime created = LocalDateTime.now().minusDays(1);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            entityManager.persist(ItemRequest.builder()
+                    .description("description" + i)
+                    .requester(users.get(i % USER_COUNT))
+                    .created(created.plusSeconds(i))
+                    .build());
+        }
+        return users.getFirst().getId();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ServerBenchmarkContext.run(ItemRequestListingBenchmark.class);
+    }
+}
@@ -9,16 +9,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import ru.practicum.shareit.exception.ErrorHandler;
 import ru.practicum.shareit.exception.ErrorResponse;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.exception.UnavailableBookingException;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.itemDto.ItemInfoForItemRequest;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestDtoWithItemInfo;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
+import ru.practicum.shareit.request.dto.ItemRequestRow;
+import ru.practicum.shareit.request.dto.RequesterDto;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserRepository;
 import java.time.LocalDateTime;
@@ -26,8 +30,11 @@ import java.util.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static ru.practicum.shareit.constants.Constants.FORMATTER;
+import static ru.practicum.shareit.constants.Constants.MAX_PAGE_SIZE;
 
 @ExtendWith(MockitoExtension.class)
 @FieldDefaults(level = AccessLevel.PRIVATE)
@@ -48,6 +55,7 @@ public class ItemRequestServiceImplTest {
     User requester;
     ItemRequestCreateDto itemRequestCreateDto;
     ItemRequest itemRequest;
+    ItemRequestRow itemRequestRow;
     ItemRequestDto itemRequestDto;
 
     @BeforeEach
@@ -67,10 +75,13 @@ public class ItemRequestServiceImplTest {
                 .created(LocalDateTime.now())
                 .build();
 
+        itemRequestRow = new ItemRequestRow(itemRequest.getId(), itemRequest.getDescription(),
+                itemRequest.getCreated(), requester.getId(), requester.getName());
+
         itemRequestDto = ItemRequestDto.builder()
                 .id(1L)
                 .description("itemRequest_description")
-                .requester(requester)
+                .requester(new RequesterDto(requester.getId(), requester.getName()))
                 .created(FORMATTER.format(itemRequest.getCreated()))
                 .build();
     }
@@ -112,13 +123,106 @@ public class ItemRequestServiceImplTest {
     public void getAllItemRequestsTest() {
         long userId = 2L;
 
-        when(itemRequestRepository.findAll(Sort.by(Sort.Direction.DESC, "created")))
-                .thenReturn(List.of(itemRequest));
+        when(itemRequestRepository.findOtherUsersRequestsOrderByCreatedDesc(eq(userId), any(LocalDateTime.class),
+                anyLong(), eq(Limit.of(11))))
+                .thenReturn(List.of(itemRequestRow));
 
-        List<ItemRequestDto> result = itemRequestService.getAllItemRequests(userId);
+        ItemRequestPage result = itemRequestService.getAllItemRequests(userId, null, 10);
 
         assertNotNull(result);
-        assertEquals(List.of(itemRequestDto), result);
+        assertEquals(List.of(itemRequestDto), result.getRequests());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    public void getAllItemRequestsWhenThereIsNextPageTest() {
+        long userId = 2L;
+        ItemRequestRow olderItemRequestRow = new ItemRequestRow(2L, "older_description",
+                itemRequest.getCreated().minusDays(1), requester.getId(), requester.getName());
+
+        when(itemRequestRepository.findOtherUsersRequestsOrderByCreatedDesc(eq(userId), any(LocalDateTime.class),
+                anyLong(), eq(Limit.of(2))))
+                .thenReturn(List.of(itemRequestRow, olderItemRequestRow));
+
+        ItemRequestPage result = itemRequestService.getAllItemRequests(userId, null, 1);
+
+        assertEquals(List.of(itemRequestDto), result.getRequests());
+        ItemRequestCursor nextCursor = ItemRequestCursor.decode(result.getNextCursor());
+        assertEquals(itemRequest.getCreated(), nextCursor.getCreated());
+        assertEquals(itemRequest.getId(), nextCursor.getId());
+    }
+
+    @Test
+    public void getAllItemRequestsWhenCursorIsIncorrectTest() {
+        assertThrows(UnavailableBookingException.class,
+                () -> itemRequestService.getAllItemRequests(2L, "incorrect_cursor", 10));
+        verifyNoInteractions(itemRequestRepository);
+    }
+
+    @Test
+    public void getAllItemRequestsWhenPageSizeIsOutOfRangeTest() {
+        assertThrows(UnavailableBookingException.class, () -> itemRequestService.getAllItemRequests(2L, null, 0));
+        assertThrows(UnavailableBookingException.class, () -> itemRequestService.getAllItemRequests(2L, null, -5));
+        assertThrows(UnavailableBookingException.class,
+                () -> itemRequestService.getAllItemRequests(2L, null, MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(itemRequestRepository);
+    }
+
+    @Test
+    public void getAllItemRequestsByUserIdKeepsRepositoryOrderTest() {
+        User owner = User.builder()
+                .id(2L)
+                .name("user2")
+                .email("user2@mail.ru")
+                .build();
+        ItemRequest newerItemRequest = ItemRequest.builder()
+                .id(2L)
+                .description("newer_description")
+                .requester(requester)
+                .created(itemRequest.getCreated().plusDays(1))
+                .build();
+        Item firstItem = Item.builder()
+                .id(1L)
+                .name("item1")
+                .owner(owner)
+                .request(itemRequest)
+                .build();
+        Item secondItem = Item.builder()
+                .id(2L)
+                .name("item2")
+                .owner(owner)
+                .request(newerItemRequest)
+                .build();
+        Item thirdItem = Item.builder()
+                .id(3L)
+                .name("item3")
+                .owner(owner)
+                .request(itemRequest)
+                .build();
+
+        when(userRepository.findById(requester.getId()))
+                .thenReturn(Optional.of(requester));
+        when(itemRequestRepository.getAllItemRequestsByUserIdOrderByStartDesc(requester.getId()))
+                .thenReturn(List.of(newerItemRequest, itemRequest));
+        when(itemRepository.findAllItemsByRequestIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(firstItem, secondItem, thirdItem));
+
+        List<ItemRequestDtoWithItemInfo> result = itemRequestService.getAllItemRequestsByUserId(requester.getId());
+
+        assertEquals(List.of(2L, 1L), result.stream().map(ItemRequestDtoWithItemInfo::getId).toList());
+        assertEquals(List.of(2L), result.get(0).getItems().stream().map(ItemInfoForItemRequest::getId).toList());
+        assertEquals(List.of(1L, 3L), result.get(1).getItems().stream().map(ItemInfoForItemRequest::getId).toList());
+    }
+
+    @Test
+    public void getAllItemRequestsByUserIdWhenThereAreNoRequestsTest() {
+        when(userRepository.findById(requester.getId()))
+                .thenReturn(Optional.of(requester));
+        when(itemRequestRepository.getAllItemRequestsByUserIdOrderByStartDesc(requester.getId()))
+                .thenReturn(List.of());
+
+        assertTrue(itemRequestService.getAllItemRequestsByUserId(requester.getId()).isEmpty());
+        verifyNoInteractions(itemRepository);
     }
 
     @Test
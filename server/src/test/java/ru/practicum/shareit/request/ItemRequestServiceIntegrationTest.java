@@ -14,13 +14,19 @@ import ru.practicum.shareit.exception.ErrorResponse;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.itemDto.CreateItemRequest;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestPage;
+import ru.practicum.shareit.request.dto.RequesterDto;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserServiceImpl;
 import ru.practicum.shareit.user.dto.CreateUserRequest;
+import ru.practicum.shareit.user.dto.UserResponse;
+import java.util.List;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Transactional
@@ -61,6 +67,28 @@ public class ItemRequestServiceIntegrationTest {
         assertThat(itemRequest.getRequester(), equalTo(requester));
     }
 
+    @Test
+    public void getAllItemRequestsPagesOverOtherUsersRequestsTest() {
+        UserResponse requester = userService.createUser(new CreateUserRequest("requester", "requester@mail.ru"));
+        UserResponse viewer = userService.createUser(new CreateUserRequest("viewer", "viewer@mail.ru"));
+        itemRequestService.createItemRequest(new ItemRequestCreateDto("viewer_description"), viewer.getId());
+        for (int i = 1; i <= 3; i++) {
+            itemRequestService.createItemRequest(new ItemRequestCreateDto("description" + i), requester.getId());
+        }
+
+        ItemRequestPage firstPage = itemRequestService.getAllItemRequests(viewer.getId(), null, 2);
+        ItemRequestPage secondPage = itemRequestService.getAllItemRequests(viewer.getId(),
+                firstPage.getNextCursor(), 2);
+
+        assertEquals(List.of("description3", "description2"),
+                firstPage.getRequests().stream().map(ItemRequestDto::getDescription).toList());
+        assertEquals(new RequesterDto(requester.getId(), "requester"), firstPage.getRequests().getFirst()
+                .getRequester());
+        assertEquals(List.of("description1"),
+                secondPage.getRequests().stream().map(ItemRequestDto::getDescription).toList());
+        assertNull(secondPage.getNextCursor());
+    }
+
     @Test
     public void getAllItemRequestsWhenUserNotFoundTest() {
         NotFoundException exception = assertThrows(NotFoundException.class,
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.user;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +10,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.availability.BookingAvailability;
 import ru.practicum.shareit.exception.ErrorHandler;
 import ru.practicum.shareit.exception.ErrorResponse;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.CreateUserRequest;
 import ru.practicum.shareit.user.dto.UpdateUserRequest;
 import ru.practicum.shareit.user.dto.UserResponse;
@@ -27,11 +33,27 @@ public class UserServiceImplTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    ItemRepository itemRepository;
+
+    @Mock
+    BookingAvailability bookingAvailability;
+
+    @Mock
+    ItemSearchIndex itemSearchIndex;
+
+    @Mock
+    EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    Cache secondLevelCache;
+
     UserService userService;
 
     @BeforeEach
     public void setUp() {
-        userService = new UserServiceImpl(userRepository);
+        userService = new UserServiceImpl(userRepository, itemRepository, bookingAvailability, itemSearchIndex,
+                entityManagerFactory);
     }
 
     @Test
@@ -285,9 +307,18 @@ public class UserServiceImplTest {
     @Test
     public void deleteUserByIdTest() {
         long userId = 1L;
+        when(itemRepository.findIdsByOwnerId(userId))
+                .thenReturn(List.of(10L, 11L));
+        when(entityManagerFactory.getCache())
+                .thenReturn(secondLevelCache);
+
         userService.deleteUserById(userId);
 
         verify(userRepository).deleteById(anyLong());
+        verify(bookingAvailability).removeUser(userId);
+        verify(itemSearchIndex).remove(10L);
+        verify(itemSearchIndex).remove(11L);
+        verify(secondLevelCache).evict(Item.class);
     }
 
     @Test
@@ -0,0 +1,42 @@
+package ru.practicum.shareit.util;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LongIndexTest {
+
+    @Test
+    public void positionOfReturnsListingPositionTest() {
+        LongIndex index = LongIndex.of(new long[]{42L, 7L, 1_000_000_007L});
+
+        assertEquals(0, index.positionOf(42L));
+        assertEquals(1, index.positionOf(7L));
+        assertEquals(2, index.positionOf(1_000_000_007L));
+        assertEquals(LongIndex.ABSENT, index.positionOf(8L));
+    }
+
+    @Test
+    public void positionOfKeepsFirstPositionOfDuplicateIdTest() {
+        LongIndex index = LongIndex.of(new long[]{5L, 6L, 5L});
+
+        assertEquals(0, index.positionOf(5L));
+        assertEquals(1, index.positionOf(6L));
+    }
+
+    @Test
+    public void positionOfWhenIndexIsEmptyTest() {
+        assertEquals(LongIndex.ABSENT, LongIndex.of(new long[0]).positionOf(1L));
+    }
+
+    @Test
+    public void positionOfMatchesEveryRandomIdTest() {
+        Random random = new Random(42);
+        long[] ids = random.longs(10_000).distinct().toArray();
+        LongIndex index = LongIndex.of(ids);
+
+        for (int position = 0; position < ids.length; position++) {
+            assertEquals(position, index.positionOf(ids[position]));
+        }
+    }
+}